@@ -0,0 +1,41 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 18.10.26, 20:30
+ * @website %web%
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.dsl
+
+import kotlinx.coroutines.flow.Flow
+import kotlinx.coroutines.future.await
+import kotlinx.coroutines.reactive.asFlow
+import net.pretronic.databasequery.api.query.Query
+import net.pretronic.databasequery.api.query.result.QueryResult
+import net.pretronic.databasequery.api.query.result.QueryResultEntry
+import net.pretronic.databasequery.api.query.type.FindQuery
+
+/**
+ * Executes the query without blocking the coroutine. Cancelling the coroutine cancels the execution,
+ * if it is still waiting in the query executor of the driver.
+ */
+suspend fun Query.await(vararg values: Any?): QueryResult = this.executeAsync(*values).await()
+
+/**
+ * Streams the result entries through a bounded channel. The entries are read on the query executor of the driver,
+ * which is sized to the connection pool, and only as fast as the collector consumes them.
+ */
+fun FindQuery.asFlow(vararg values: Any?): Flow<QueryResultEntry> = this.publish(*values).asFlow()
@@ -24,10 +24,12 @@ import net.pretronic.databasequery.api.Database;
 import net.pretronic.databasequery.api.collection.field.CollectionField;
 import net.pretronic.databasequery.api.query.QueryGroup;
 import net.pretronic.databasequery.api.query.QueryTransaction;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
 import net.pretronic.databasequery.api.query.type.*;
 import net.pretronic.databasequery.api.query.type.*;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 
 /**
@@ -72,6 +74,97 @@ public interface DatabaseCollection {
      */
     CompletableFuture<Long> getSizeAsync();
 
+    /**
+     * Returns the estimated size of this {@link DatabaseCollection} from the statistics of the database. The estimate
+     * is cheap for huge collections, but may differ from {@link #getSize()}. Databases without statistics return the exact size.
+     *
+     * @return estimated size of database collection
+     */
+    long getEstimatedSize();
+
+    /**
+     * Returns {@link #getEstimatedSize()} async.
+     *
+     * @return completable future of estimated size
+     */
+    CompletableFuture<Long> getEstimatedSizeAsync();
+
+
+    /**
+     * Returns the entry with the given key from the key cache of the field. Missing keys are loaded from the
+     * database, concurrent misses of the same field are loaded together with one query. The cache is invalidated
+     * by the write queries of this collection.
+     *
+     * @param field which identifies the entries (e.g. the primary key)
+     * @param key of the entry
+     * @return the entry or null, if no entry with the key exists
+     */
+    QueryResultEntry getByKey(String field, Object key);
+
+    /**
+     * Returns {@link #getByKey(String, Object)} async.
+     *
+     * @param field which identifies the entries
+     * @param key of the entry
+     * @return future of the entry
+     */
+    CompletableFuture<QueryResultEntry> getByKeyAsync(String field, Object key);
+
+    /**
+     * Returns the entries with the given keys from the key cache of the field, all missing keys are loaded with one query.
+     *
+     * @param field which identifies the entries
+     * @param keys of the entries
+     * @return the entries by their key, keys without an entry are not contained
+     */
+    Map<Object, QueryResultEntry> getAllByKeys(String field, Collection<?> keys);
+
+    /**
+     * Returns {@link #getAllByKeys(String, Collection)} async.
+     *
+     * @param field which identifies the entries
+     * @param keys of the entries
+     * @return future of the entries by their key
+     */
+    CompletableFuture<Map<Object, QueryResultEntry>> getAllByKeysAsync(String field, Collection<?> keys);
+
+    /**
+     * Adds the delta to the field of the entry with the given key in the write behind buffer of this collection.
+     * Deltas of the same entry and field are summed up and written with one update query, the buffer is flushed
+     * in a fixed interval, if it is full and on disconnect of the driver.
+     *
+     * <p>The update is not visible in queries before the buffer is flushed.</p>
+     *
+     * @param keyField which identifies the entry (e.g. the primary key)
+     * @param key of the entry
+     * @param field which is updated
+     * @param delta which is added to the field
+     */
+    void addBuffered(String keyField, Object key, String field, Number delta);
+
+    /**
+     * Writes all buffered deltas of {@link #addBuffered(String, Object, String, Number)} to the database.
+     */
+    void flushBuffer();
+
+    /**
+     * Returns a new {@link InsertSink} with the default capacity and maximum latency of the driver.
+     *
+     * @param fields which are inserted by the sink
+     * @return the insert sink
+     */
+    InsertSink insertSink(String... fields);
+
+    /**
+     * Returns a new {@link InsertSink}, which collects rows and inserts them in the background with one commit per flush.
+     * The sink is flushed and closed on disconnect of the driver.
+     *
+     * @param capacity maximum amount of queued rows, before inserting blocks
+     * @param maxLatency maximum time in milliseconds a row is queued, before it is written
+     * @param fields which are inserted by the sink
+     * @return the insert sink
+     */
+    InsertSink insertSink(int capacity, long maxLatency, String... fields);
 
     /**
      * Returns a {@link InsertQuery} to insert new data in this {@link DatabaseCollection}.
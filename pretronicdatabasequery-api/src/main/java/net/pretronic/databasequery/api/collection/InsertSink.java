@@ -0,0 +1,65 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 23:30
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.collection;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@link InsertSink} collects rows from any thread and inserts them in the background. All queued rows are
+ * written with one insert query and one commit, the rows are written at the latest after the maximum latency.
+ *
+ * <p>If the sink is full, {@link #insert(Object...)} blocks until the next flush has written the queued rows.</p>
+ *
+ * <pre>
+ *   InsertSink sink = collection.insertSink("Time","Action");
+ *   sink.insert(System.currentTimeMillis(),"login")
+ *       .thenRun(() -> System.out.println("Inserted"));
+ * </pre>
+ */
+public interface InsertSink extends AutoCloseable {
+
+    DatabaseCollection getCollection();
+
+    String[] getFields();
+
+    /**
+     * @return the amount of rows, which are queued and not yet written
+     */
+    int getPendingRows();
+
+    /**
+     * Queues a row with one value for every field of this sink.
+     *
+     * @param values of the row in the order of the fields
+     * @return future, which is completed after the row was inserted and committed
+     */
+    CompletableFuture<Void> insert(Object... values);
+
+    /**
+     * Writes all queued rows in the calling thread.
+     */
+    void flush();
+
+    /**
+     * Stops the background flushes and writes the remaining rows, no rows can be inserted afterwards.
+     */
+    @Override
+    void close();
+}
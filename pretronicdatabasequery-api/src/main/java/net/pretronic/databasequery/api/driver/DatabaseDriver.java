@@ -24,6 +24,7 @@ import net.pretronic.databasequery.api.Database;
 import net.pretronic.databasequery.api.datatype.adapter.DataTypeAdapter;
 import net.pretronic.databasequery.api.datatype.adapter.defaults.UUIDDataTypeAdapter;
 import net.pretronic.databasequery.api.driver.config.DatabaseDriverConfig;
+import net.pretronic.databasequery.api.driver.metrics.QueryMetrics;
 import net.pretronic.libraries.logging.PretronicLogger;
 
 import java.util.Map;
@@ -69,6 +70,13 @@ public interface DatabaseDriver {
      */
     ExecutorService getExecutorService();
 
+    /**
+     * Returns the query metrics of this driver, see {@link QueryMetrics} for more information.
+     *
+     * @return query metrics
+     */
+    QueryMetrics getQueryMetrics();
+
     /**
      * Gets a database from the connected host.
      *
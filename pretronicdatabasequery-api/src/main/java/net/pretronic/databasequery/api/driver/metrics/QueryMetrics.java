@@ -0,0 +1,71 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 00:10
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.driver.metrics;
+
+import java.util.Collection;
+
+/**
+ * The {@link QueryMetrics} of a driver record the executions of every query shape (a compiled statement of a collection).
+ *
+ * <p>The metrics are disabled by default and don't cost anything on the execution of a query, they can be enabled
+ * with {@link #setEnabled(boolean)} or the configuration of the driver.</p>
+ *
+ * <pre>
+ *   driver.getQueryMetrics().setEnabled(true);
+ *   driver.getQueryMetrics().registerExporter((driver, shapes) -> shapes.forEach(shape ->
+ *       System.out.println(shape.getStatement() + " p99: " + shape.getLatencyPercentile(99))));
+ *   driver.getQueryMetrics().export();
+ * </pre>
+ */
+public interface QueryMetrics {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * @return the metrics of all recorded query shapes
+     */
+    Collection<QueryShapeMetrics> getShapes();
+
+    /**
+     * Returns the metrics of the query shape with the given statement.
+     *
+     * @param statement the compiled statement of the query shape
+     * @return the metrics or null, if the statement was not executed yet
+     */
+    QueryShapeMetrics getShape(String statement);
+
+    Collection<QueryMetricsExporter> getExporters();
+
+    void registerExporter(QueryMetricsExporter exporter);
+
+    void unregisterExporter(QueryMetricsExporter exporter);
+
+    /**
+     * Passes the metrics of all query shapes to the registered exporters.
+     */
+    void export();
+
+    /**
+     * Removes all recorded query shapes.
+     */
+    void reset();
+}
@@ -0,0 +1,39 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 00:20
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.driver.metrics;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+
+import java.util.Collection;
+
+/**
+ * Exports the query metrics of a driver (e.g. to a log, a monitoring system or a file).
+ */
+@FunctionalInterface
+public interface QueryMetricsExporter {
+
+    /**
+     * Exports the metrics, which are recorded since the driver was started or the metrics were reset.
+     *
+     * @param driver which recorded the metrics
+     * @param shapes the metrics of all query shapes
+     */
+    void export(DatabaseDriver driver, Collection<QueryShapeMetrics> shapes);
+}
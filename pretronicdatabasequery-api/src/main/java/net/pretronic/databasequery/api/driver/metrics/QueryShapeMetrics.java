@@ -0,0 +1,75 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 00:15
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.driver.metrics;
+
+/**
+ * The recorded executions of one query shape, all times are in nanoseconds.
+ */
+public interface QueryShapeMetrics {
+
+    /**
+     * @return the collection of the statement or null, if it is unknown
+     */
+    String getCollection();
+
+    /**
+     * @return the type of the statement (e.g. SELECT, INSERT, find) or null, if it is unknown
+     */
+    String getType();
+
+    String getStatement();
+
+    /**
+     * @return the amount of successful executions
+     */
+    long getCount();
+
+    /**
+     * @return the amount of failed executions
+     */
+    long getErrors();
+
+    /**
+     * @return the amount of returned or affected rows of all executions
+     */
+    long getRows();
+
+    long getTotalLatency();
+
+    long getAverageLatency();
+
+    long getMaxLatency();
+
+    /**
+     * Returns the latency, which is not exceeded by the given percentage of all executions. The latencies are
+     * recorded in logarithmic buckets, the returned value has a precision of about 6 percent.
+     *
+     * @param percentile between 0 and 100 (e.g. 99.9)
+     * @return the latency of the percentile
+     */
+    long getLatencyPercentile(double percentile);
+
+    /**
+     * @return the total time, the executions waited for a connection
+     */
+    long getConnectionWaitTime();
+
+    long getAverageConnectionWaitTime();
+}
@@ -0,0 +1,52 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Davide Wietlisbach
+ * @since 18.10.26, 15:05
+ * @website %web%
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.api.query;
+
+import net.pretronic.databasequery.api.query.result.QueryResult;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The {@link BatchQuery} is a query, which can be executed with multiple value sets at once.
+ *
+ * <p>All value sets are bound to the same statement and sent together to the database (if supported by the driver).
+ * The returned result contains one entry for every value set with the key {@link #UPDATE_COUNT}.</p>
+ *
+ * <pre>
+ *   update.set("Balance").where("Id")
+ *         .executeBatch(Arrays.asList(new Object[]{100,1}, new Object[]{250,2}));
+ * </pre>
+ */
+public interface BatchQuery extends Query {
+
+    String UPDATE_COUNT = "updateCount";
+
+    /**
+     * Executes this query once for every value set.
+     *
+     * @param values the value sets, every array contains the values for one execution
+     * @return a result with one entry per value set
+     */
+    QueryResult executeBatch(List<Object[]> values);
+
+    CompletableFuture<QueryResult> executeBatchAsync(List<Object[]> values);
+}
@@ -24,12 +24,18 @@ import net.pretronic.databasequery.api.query.result.QueryResult;
 
 import java.util.function.Consumer;
 
-public interface QueryTransaction {
+public interface QueryTransaction extends AutoCloseable {
 
     void commit();
 
     void rollback();
 
+    /**
+     * Rollbacks all uncommitted changes and releases the resources of this transaction.
+     */
+    @Override
+    void close();
+
     QueryResult execute(Query query, Object... values);
 
     QueryResult execute(QueryGroup queryGroup, Object... values);
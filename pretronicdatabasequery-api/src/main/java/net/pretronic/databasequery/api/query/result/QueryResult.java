@@ -22,6 +22,7 @@ package net.pretronic.databasequery.api.query.result;
 
 import net.pretronic.databasequery.api.query.Query;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -131,6 +132,19 @@ public interface QueryResult extends Iterable<QueryResultEntry> {
      */
     <T> void loadIn(Collection<T> collection, Function<QueryResultEntry,T> loader);
 
+    /**
+     * Map all rows to objects of the given class, see {@link QueryResultEntry#getAsObject(Class)}.
+     *
+     * @param clazz The class of the objects
+     * @param <T> The type of the objects
+     * @return A list which contains an object for each row
+     */
+    default <T> List<T> mapTo(Class<T> clazz) {
+        List<T> result = new ArrayList<>(size());
+        loadIn(result, entry -> entry.getAsObject(clazz));
+        return result;
+    }
+
     /**
      * Create a new iterator for iterating all entries.
      *
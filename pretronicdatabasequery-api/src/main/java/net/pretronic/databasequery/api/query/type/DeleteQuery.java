@@ -20,7 +20,9 @@
 
 package net.pretronic.databasequery.api.query.type;
 
+import net.pretronic.databasequery.api.query.BatchQuery;
+
 /**
  * The {@link DeleteQuery} represents the query, which deletes data with possible conditions.
  */
-public interface DeleteQuery extends SearchQuery<DeleteQuery> {}
+public interface DeleteQuery extends SearchQuery<DeleteQuery>, BatchQuery {}
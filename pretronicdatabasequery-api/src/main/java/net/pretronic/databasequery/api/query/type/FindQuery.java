@@ -21,6 +21,10 @@
 package net.pretronic.databasequery.api.query.type;
 
 import net.pretronic.databasequery.api.query.Aggregation;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import org.reactivestreams.Publisher;
+
+import java.util.stream.Stream;
 
 /**
  * The {@link FindQuery} represents the query to search data in the executed {@link net.pretronic.databasequery.api.collection.DatabaseCollection}.
@@ -40,4 +44,24 @@ public interface FindQuery extends SearchQuery<FindQuery> {
      */
     FindQuery get(Aggregation aggregation,String field);
 
+    /**
+     * Executes the query and returns the result entries as stream. Depending on the driver, the entries are
+     * read lazily from the database while the stream is consumed.
+     *
+     * <p>The stream holds database resources and has to be closed after use (e.g. with try-with-resources).</p>
+     *
+     * @param values for the prepared values
+     * @return the stream of the result entries
+     */
+    Stream<QueryResultEntry> stream(Object... values);
+
+    /**
+     * Creates a publisher, which executes the query for every subscriber. The entries are only read from the
+     * database as requested by the subscriber, the database resources are released on completion or cancellation.
+     *
+     * @param values for the prepared values
+     * @return the publisher of the result entries
+     */
+    Publisher<QueryResultEntry> publish(Object... values);
+
 }
@@ -20,7 +20,7 @@
 
 package net.pretronic.databasequery.api.query.type;
 
-import net.pretronic.databasequery.api.query.Query;
+import net.pretronic.databasequery.api.query.BatchQuery;
 import net.pretronic.databasequery.api.query.result.QueryResult;
 
 import java.util.List;
@@ -50,7 +50,7 @@ import java.util.concurrent.CompletableFuture;
  *         .execute("John Doe",54,"Jane Doe",36);
  * </pre>
  */
-public interface InsertQuery extends Query {
+public interface InsertQuery extends BatchQuery {
 
     InsertQuery set(String field);
 
@@ -86,4 +86,13 @@ public interface InsertQuery extends Query {
     CompletableFuture<Integer> executeAsyncAndGetGeneratedKeyAsInt(String keyColumn, Object... values);
 
     CompletableFuture<Long> executeAsyncAndGetGeneratedKeyAsLong(String keyColumn, Object... values);
+
+    /**
+     * Executes this query once for every value set and returns the generated keys of every inserted row.
+     *
+     * @param keyColumns the generated key columns
+     * @param values the value sets, every array contains the values for one execution
+     * @return a result with one entry per value set, containing the update count and the generated keys
+     */
+    QueryResult executeBatchAndGetGeneratedKeys(String[] keyColumns, List<Object[]> values);
 }
@@ -26,6 +26,7 @@ import net.pretronic.databasequery.api.query.SearchOrder;
 import net.pretronic.databasequery.api.query.type.join.JoinQuery;
 
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 /**
@@ -193,6 +194,14 @@ public interface SearchQuery<T extends SearchQuery<T>> extends JoinQuery<T> {
 
     T whereIn(String field);
 
+    /**
+     * Filter for fields, where the value is in the result of the {@code query}. The query is executed as subquery
+     * by the database, its prepared values follow the prepared values of this query in Query#execute.
+     *
+     * @param field to check
+     * @param query which selects the values
+     * @return the query instance
+     */
     T whereIn(String field, FindQuery query);
 
 
@@ -290,6 +299,63 @@ public interface SearchQuery<T extends SearchQuery<T>> extends JoinQuery<T> {
      */
     T page(int page, int entriesPerPage);
 
+    /**
+     * Keyset pagination: returns only entries after the last entry of the previous page and orders the result
+     * ascending by the key field. In combination with {@link #limit(int)}, every page costs the same independent
+     * of its position. It only can be used in the super query and not together with a union.
+     *
+     * @param field of the key, should be unique or the last field of a unique key
+     * @param lastValue of the key in the previous page
+     * @return query instance
+     */
+    T after(String field, Object lastValue);
+
+    /**
+     * {@link #after(String, Object)} with a prepared last value.
+     *
+     * @param field of the key
+     * @return query instance
+     */
+    T after(String field);
+
+    /**
+     * Keyset pagination with a composite key, the entries are compared and ordered by all key fields in the given order.
+     *
+     * @param fields of the key
+     * @param lastValues of the key fields in the previous page
+     * @return query instance
+     */
+    T after(String[] fields, Object[] lastValues);
+
+    /**
+     * {@link #after(String[], Object[])} with prepared last values.
+     *
+     * @param fields of the key
+     * @return query instance
+     */
+    T after(String[] fields);
+
+    /**
+     * Keyset pagination in the given direction, with {@link SearchOrder#DESC} only entries before the last entry
+     * of the previous page are returned and the result is ordered descending by the key fields.
+     *
+     * @param field of the key
+     * @param lastValue of the key in the previous page
+     * @param order of the pages
+     * @return query instance
+     */
+    T after(String field, Object lastValue, SearchOrder order);
+
+    /**
+     * {@link #after(String[], Object[])} in the given direction.
+     *
+     * @param fields of the key
+     * @param lastValues of the key fields in the previous page
+     * @param order of the pages
+     * @return query instance
+     */
+    T after(String[] fields, Object[] lastValues, SearchOrder order);
+
 
     /**
      * Order the result with the given field in the given order. It only can be used in the super query.
@@ -328,9 +394,57 @@ public interface SearchQuery<T extends SearchQuery<T>> extends JoinQuery<T> {
      */
     T groupBy(Aggregation aggregation, String field);
 
-
+    /**
+     * Combines the result with the result of the given find query, duplicated entries are removed. The order and
+     * the limit of this query are applied to the combined result. The prepared values of the query follow the
+     * prepared values of this query in Query#execute.
+     *
+     * @param query to combine
+     * @return query instance
+     */
     T union(SearchQuery<?> query);
 
+    /**
+     * Combines the result with the result of the given find query without removing duplicated entries, which is
+     * cheaper than {@link #union(SearchQuery)}. The order and the limit of this query are applied to the combined result.
+     *
+     * @param query to combine
+     * @return query instance
+     */
+    T unionAll(SearchQuery<?> query);
+
+    /**
+     * Counts the matching entries on the database without transferring them.
+     *
+     * @param values for the prepared values
+     * @return the amount of matching entries
+     */
+    long count(Object... values);
+
+    /**
+     * Returns {@link #count(Object...)} async.
+     *
+     * @param values for the prepared values
+     * @return future of the amount of matching entries
+     */
+    CompletableFuture<Long> countAsync(Object... values);
+
+    /**
+     * Checks if at least one entry matches, the database stops searching at the first match.
+     *
+     * @param values for the prepared values
+     * @return if an entry matches
+     */
+    boolean exists(Object... values);
+
+    /**
+     * Returns {@link #exists(Object...)} async.
+     *
+     * @param values for the prepared values
+     * @return future if an entry matches
+     */
+    CompletableFuture<Boolean> existsAsync(Object... values);
+
     /**
      * The search query consumer, which can be used in {@link #and(SearchConsumer...)}, {@link #or(SearchConsumer...)}
      * and {@link #not(SearchConsumer)}.
@@ -20,7 +20,9 @@
 
 package net.pretronic.databasequery.api.query.type;
 
+import net.pretronic.databasequery.api.query.BatchQuery;
+
 /**
  * The {@link UpdateQuery} represents the query, which update data in a {@link net.pretronic.databasequery.api.collection.DatabaseCollection}.
  */
-public interface UpdateQuery extends ChangeQuery<UpdateQuery>, SearchQuery<UpdateQuery> {}
+public interface UpdateQuery extends ChangeQuery<UpdateQuery>, SearchQuery<UpdateQuery>, BatchQuery {}
@@ -20,17 +20,33 @@
 package net.pretronic.databasequery.common;
 
 import net.pretronic.databasequery.api.Database;
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.collection.InsertSink;
 import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.common.collection.DefaultInsertSink;
+import net.pretronic.databasequery.common.collection.KeyCache;
+import net.pretronic.databasequery.common.collection.UpdateBuffer;
+import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
 import net.pretronic.libraries.logging.PretronicLogger;
+import net.pretronic.libraries.utility.Validate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 public abstract class AbstractDatabase<T extends DatabaseDriver> implements Database {
 
     private final String name;
     private final T driver;
+    private final ConcurrentMap<String, KeyCache> keyCaches;
+    private final ConcurrentMap<String, UpdateBuffer> updateBuffers;
 
     public AbstractDatabase(String name, T driver) {
         this.name = name;
         this.driver = driver;
+        this.keyCaches = new ConcurrentHashMap<>();
+        this.updateBuffers = new ConcurrentHashMap<>();
     }
 
     @Override
@@ -46,4 +62,82 @@ public abstract class AbstractDatabase<T extends DatabaseDriver> implements Data
     public PretronicLogger getLogger() {
         return this.driver.getLogger();
     }
+
+    /*
+     * The key caches are shared by all collection instances with the same name.
+     */
+    @Internal
+    public KeyCache getKeyCache(DatabaseCollection collection, String field) {
+        return this.keyCaches.computeIfAbsent(collection.getName() + '.' + field,
+                key -> new KeyCache(collection, field, getKeyCacheSize(), getKeyCacheExpire()));
+    }
+
+    @Internal
+    public void invalidateKeyCaches(String collection) {
+        String prefix = collection + '.';
+        for (Map.Entry<String, KeyCache> entry : this.keyCaches.entrySet()) {
+            if(entry.getKey().startsWith(prefix)) entry.getValue().invalidate();
+        }
+    }
+
+    /*
+     * The update buffer is shared by all collection instances with the same name and closed on disconnect of the driver,
+     * a closed buffer is replaced by a new one.
+     */
+    @Internal
+    public UpdateBuffer getUpdateBuffer(DatabaseCollection collection) {
+        UpdateBuffer buffer = this.updateBuffers.get(collection.getName());
+        if(buffer != null && !buffer.isClosed()) return buffer;
+        return this.updateBuffers.compute(collection.getName(), (key, current) -> {
+            if(current != null && !current.isClosed()) return current;
+            AbstractDatabaseDriver driver = getAbstractDriver("update buffers");
+            UpdateBuffer created = new UpdateBuffer(driver, collection, getUpdateBufferSize(), getUpdateBufferInterval());
+            driver.registerWriteBuffer(created);
+            return created;
+        });
+    }
+
+    /*
+     * A negative capacity or latency uses the default of the database.
+     */
+    @Internal
+    public InsertSink createInsertSink(DatabaseCollection collection, String[] fields, int capacity, long maxLatency) {
+        Validate.notNull(fields);
+        AbstractDatabaseDriver driver = getAbstractDriver("insert sinks");
+        DefaultInsertSink sink = new DefaultInsertSink(driver, collection, fields, capacity < 0 ? getInsertSinkCapacity() : capacity,
+                maxLatency < 0 ? getInsertSinkMaxLatency() : maxLatency);
+        driver.registerWriteBuffer(sink);
+        return sink;
+    }
+
+    private AbstractDatabaseDriver getAbstractDriver(String feature) {
+        if(!(this.driver instanceof AbstractDatabaseDriver)) {
+            throw new UnsupportedOperationException("Driver " + this.driver.getClass() + " doesn't support " + feature);
+        }
+        return (AbstractDatabaseDriver) this.driver;
+    }
+
+    protected int getKeyCacheSize() {
+        return KeyCache.DEFAULT_SIZE;
+    }
+
+    protected long getKeyCacheExpire() {
+        return KeyCache.DEFAULT_EXPIRE;
+    }
+
+    protected int getUpdateBufferSize() {
+        return UpdateBuffer.DEFAULT_SIZE;
+    }
+
+    protected long getUpdateBufferInterval() {
+        return UpdateBuffer.DEFAULT_INTERVAL;
+    }
+
+    protected int getInsertSinkCapacity() {
+        return DefaultInsertSink.DEFAULT_CAPACITY;
+    }
+
+    protected long getInsertSinkMaxLatency() {
+        return DefaultInsertSink.DEFAULT_MAX_LATENCY;
+    }
 }
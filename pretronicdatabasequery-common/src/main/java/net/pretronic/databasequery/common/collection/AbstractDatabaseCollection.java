@@ -19,15 +19,21 @@
 
 package net.pretronic.databasequery.common.collection;
 
-import net.pretronic.databasequery.api.Database;
 import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.collection.InsertSink;
 import net.pretronic.databasequery.api.collection.DatabaseCollectionType;
 import net.pretronic.databasequery.api.collection.field.CollectionField;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.AbstractDatabase;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.libraries.utility.Validate;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
-public abstract class AbstractDatabaseCollection<T extends Database> implements DatabaseCollection {
+public abstract class AbstractDatabaseCollection<T extends AbstractDatabase<?>> implements DatabaseCollection {
 
     private final String name;
     private final T database;
@@ -56,49 +62,99 @@ public abstract class AbstractDatabaseCollection<T extends Database> implements
 
     @Override
     public CompletableFuture<Long> getSizeAsync() {
-        CompletableFuture<Long> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> future.complete(getSize()));
-        return future;
+        return QueryExecutor.of(this.database.getDriver()).submit(this::getSize);
+    }
+
+    @Override
+    public CompletableFuture<Long> getEstimatedSizeAsync() {
+        return QueryExecutor.of(this.database.getDriver()).submit(this::getEstimatedSize);
+    }
+
+    @Override
+    public QueryResultEntry getByKey(String field, Object key) {
+        Validate.notNull(field, key);
+        return join(this.database.getKeyCache(this, field).get(key, false));
+    }
+
+    @Override
+    public CompletableFuture<QueryResultEntry> getByKeyAsync(String field, Object key) {
+        Validate.notNull(field, key);
+        return this.database.getKeyCache(this, field).get(key, true);
+    }
+
+    @Override
+    public Map<Object, QueryResultEntry> getAllByKeys(String field, Collection<?> keys) {
+        Validate.notNull(field, keys);
+        return join(this.database.getKeyCache(this, field).getAll(keys, false));
+    }
+
+    @Override
+    public CompletableFuture<Map<Object, QueryResultEntry>> getAllByKeysAsync(String field, Collection<?> keys) {
+        Validate.notNull(field, keys);
+        return this.database.getKeyCache(this, field).getAll(keys, true);
+    }
+
+    @Override
+    public void addBuffered(String keyField, Object key, String field, Number delta) {
+        Validate.notNull(keyField, key, field, delta);
+        this.database.getUpdateBuffer(this).add(keyField, key, field, delta);
+    }
+
+    @Override
+    public void flushBuffer() {
+        this.database.getUpdateBuffer(this).flush();
+    }
+
+    @Override
+    public InsertSink insertSink(String... fields) {
+        return this.database.createInsertSink(this, fields, -1, -1);
+    }
+
+    @Override
+    public InsertSink insertSink(int capacity, long maxLatency, String... fields) {
+        return this.database.createInsertSink(this, fields, capacity, maxLatency);
+    }
+
+    /*
+     * Rethrows the exception of a failed load without the completion exception.
+     */
+    private static <R> R join(CompletableFuture<R> future) {
+        try {
+            return future.join();
+        } catch (CompletionException exception) {
+            if(exception.getCause() instanceof RuntimeException) throw (RuntimeException) exception.getCause();
+            throw exception;
+        }
     }
 
     @Override
     public CompletableFuture<Void> dropAsync() {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> {
+        return QueryExecutor.of(this.database.getDriver()).submit(() -> {
             drop();
-            future.complete(null);
+            return null;
         });
-        return future;
     }
 
     @Override
     public CompletableFuture<Void> clearAsync() {
-        CompletableFuture<Void> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> {
+        return QueryExecutor.of(this.database.getDriver()).submit(() -> {
             clear();
-            future.complete(null);
+            return null;
         });
-        return future;
     }
 
     @Override
     public CompletableFuture<Collection<CollectionField>> getFieldsAsync() {
-        CompletableFuture<Collection<CollectionField>> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> future.complete(getFields()));
-        return future;
+        return QueryExecutor.of(this.database.getDriver()).submit(this::getFields);
     }
 
     @Override
     public CompletableFuture<CollectionField> getFieldAsync(String name) {
-        CompletableFuture<CollectionField> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> future.complete(getField(name)));
-        return future;
+        return QueryExecutor.of(this.database.getDriver()).submit(() -> getField(name));
     }
 
     @Override
     public CompletableFuture<Boolean> hasFieldAsync(String name) {
-        CompletableFuture<Boolean> future = new CompletableFuture<>();
-        this.database.getDriver().getExecutorService().execute(()-> future.complete(hasField(name)));
-        return future;
+        return QueryExecutor.of(this.database.getDriver()).submit(() -> hasField(name));
     }
 }
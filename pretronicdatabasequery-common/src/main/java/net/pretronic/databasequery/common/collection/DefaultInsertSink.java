@@ -0,0 +1,201 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 23:35
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.collection;
+
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.collection.InsertSink;
+import net.pretronic.databasequery.api.exceptions.DatabaseQueryException;
+import net.pretronic.databasequery.api.query.type.InsertQuery;
+import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.driver.WriteBuffer;
+import net.pretronic.libraries.utility.Validate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Default implementation of the {@link InsertSink}. The rows are queued in a lock free queue, the free space
+ * of the sink is tracked with a semaphore, which blocks the producers if the sink is full.
+ *
+ * <p>The sink is flushed on a fixed interval (the maximum latency) on the scheduler of the driver and as soon as
+ * half of the sink is filled on the query executor, so producers usually don't have to wait for free space.</p>
+ */
+@Internal
+public class DefaultInsertSink implements InsertSink, WriteBuffer {
+
+    public static final int DEFAULT_CAPACITY = 10000;
+    public static final long DEFAULT_MAX_LATENCY = 100;
+
+    private final AbstractDatabaseDriver driver;
+    private final DatabaseCollection collection;
+    private final String[] fields;
+    private final int capacity;
+    private final Queue<Row> queue;
+    private final Semaphore space;
+    private final AtomicInteger pendingRows;
+    private final AtomicBoolean flushRequested;
+    private final AtomicLong insertedRows;
+    private final AtomicLong failedRows;
+    private final AtomicLong flushes;
+    private final ScheduledFuture<?> task;
+    private volatile boolean closed;
+
+    public DefaultInsertSink(AbstractDatabaseDriver driver, DatabaseCollection collection, String[] fields, int capacity, long maxLatency) {
+        Validate.isTrue(fields.length > 0, "Insert sink requires at least one field");
+        Validate.isTrue(capacity > 0, "Capacity of insert sink must be positive");
+        Validate.isTrue(maxLatency > 0, "Maximum latency of insert sink must be positive");
+        this.driver = driver;
+        this.collection = collection;
+        this.fields = fields;
+        this.capacity = capacity;
+        this.queue = new ConcurrentLinkedQueue<>();
+        this.space = new Semaphore(capacity);
+        this.pendingRows = new AtomicInteger();
+        this.flushRequested = new AtomicBoolean();
+        this.insertedRows = new AtomicLong();
+        this.failedRows = new AtomicLong();
+        this.flushes = new AtomicLong();
+        this.task = driver.getScheduler().scheduleWithFixedDelay(this::flushSafely, maxLatency, maxLatency, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public DatabaseCollection getCollection() {
+        return collection;
+    }
+
+    @Override
+    public String[] getFields() {
+        return fields;
+    }
+
+    @Override
+    public int getPendingRows() {
+        return pendingRows.get();
+    }
+
+    public long getInsertedRows() {
+        return insertedRows.get();
+    }
+
+    public long getFailedRows() {
+        return failedRows.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    @Override
+    public CompletableFuture<Void> insert(Object... values) {
+        Validate.isTrue(values.length == this.fields.length, "Insert sink requires one value for every field");
+        if(this.closed) throw new IllegalStateException("Insert sink of collection " + this.collection.getName() + " is closed");
+        try {
+            this.space.acquire();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new DatabaseQueryException("Interrupted while waiting for free space in insert sink", exception);
+        }
+        Row row = new Row(values);
+        this.queue.offer(row);
+        int pending = this.pendingRows.incrementAndGet();
+
+        //The sink was closed concurrently, the last flush could have missed the row
+        if(this.closed) flush();
+        else if(pending >= Math.max(1, this.capacity / 2) && this.flushRequested.compareAndSet(false, true)) {
+            //The rows of a rejected flush are written by the next scheduled flush
+            QueryExecutor.of(this.driver).submit(() -> {
+                flushSafely();
+                return null;
+            }).whenComplete((ignored, throwable) -> this.flushRequested.set(false));
+        }
+        return row.future;
+    }
+
+    @Override
+    public synchronized void flush() {
+        List<Row> rows;
+        while (!(rows = drain()).isEmpty()) {
+            this.flushes.incrementAndGet();
+            try {
+                InsertQuery query = this.collection.insert().fields(this.fields);
+                for (Row row : rows) query.values(row.values);
+                query.execute();
+                this.insertedRows.addAndGet(rows.size());
+                for (Row row : rows) row.future.complete(null);
+            } catch (RuntimeException exception) {
+                this.failedRows.addAndGet(rows.size());
+                for (Row row : rows) row.future.completeExceptionally(exception);
+                throw exception;
+            } finally {
+                this.space.release(rows.size());
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if(this.closed) return;
+        this.closed = true;
+        this.task.cancel(false);
+        this.driver.unregisterWriteBuffer(this);
+        flush();
+    }
+
+    private List<Row> drain() {
+        List<Row> rows = new ArrayList<>();
+        Row row;
+        while (rows.size() < this.capacity && (row = this.queue.poll()) != null) {
+            rows.add(row);
+            this.pendingRows.decrementAndGet();
+        }
+        return rows;
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            this.driver.getLogger().error("{} - Error flushing insert sink of collection {}: {}", this.driver.getName(),
+                    this.collection.getName(), exception.getMessage());
+        }
+    }
+
+    private static class Row {
+
+        private final Object[] values;
+        private final CompletableFuture<Void> future;
+
+        private Row(Object[] values) {
+            this.values = values;
+            this.future = new CompletableFuture<>();
+        }
+    }
+}
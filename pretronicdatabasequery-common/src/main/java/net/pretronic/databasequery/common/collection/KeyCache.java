@@ -0,0 +1,307 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 22:10
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.collection;
+
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.datatype.adapter.DataTypeAdapter;
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.libraries.utility.annonations.Internal;
+import net.pretronic.libraries.utility.reflect.Primitives;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Caches the entries of a collection by the value of a key field. Misses are not loaded one by one, all keys which
+ * are requested while a load is running are collected and loaded together with one where in query. Concurrent
+ * requests for the same key share the same load.
+ *
+ * <p>The keys are compared in the form the where in query binds them, converted with the data type adapter of the
+ * driver or as string. Keys which still don't match a loaded entry are compared case insensitive by their string
+ * form, for example the keys of a case insensitive collation.</p>
+ *
+ * <p>Keys without an entry are cached as well, the future of such a key completes with null. The cache is
+ * invalidated by the write queries of the collection.</p>
+ */
+@Internal
+public class KeyCache {
+
+    public static final int DEFAULT_SIZE = 10000;
+    public static final long DEFAULT_EXPIRE = 60000;
+    private static final int MAX_REJECTED_LOADS = 4;
+
+    private final DatabaseCollection collection;
+    private final DatabaseDriver driver;
+    private final String field;
+    private final int size;
+    private final long expire;
+    private final Map<Object, Entry> entries;
+    private final Map<Object, Request> pending;
+    private boolean loading;
+    private long version;
+
+    public KeyCache(DatabaseCollection collection, String field, int size, long expire) {
+        this.collection = collection;
+        this.driver = collection.getDatabase().getDriver();
+        this.field = field;
+        this.size = size;
+        this.expire = expire;
+        this.entries = new EntryMap();
+        this.pending = new LinkedHashMap<>();
+        this.loading = false;
+        this.version = 0;
+    }
+
+    public CompletableFuture<QueryResultEntry> get(Object key, boolean async) {
+        CompletableFuture<QueryResultEntry> future;
+        boolean load;
+        synchronized (this) {
+            future = request(key);
+            load = startLoading();
+        }
+        if(load) load(async);
+        return future;
+    }
+
+    public CompletableFuture<Map<Object, QueryResultEntry>> getAll(Collection<?> keys, boolean async) {
+        Map<Object, CompletableFuture<QueryResultEntry>> futures = new LinkedHashMap<>();
+        boolean load;
+        synchronized (this) {
+            for (Object key : keys) {
+                futures.put(key, request(key));
+            }
+            load = startLoading();
+        }
+        if(load) load(async);
+        return CompletableFuture.allOf(futures.values().toArray(new CompletableFuture[0])).thenApply(ignored -> {
+            Map<Object, QueryResultEntry> result = new LinkedHashMap<>();
+            futures.forEach((key, future) -> {
+                QueryResultEntry entry = future.join();
+                if(entry != null) result.put(key, entry);
+            });
+            return result;
+        });
+    }
+
+    public void invalidate() {
+        synchronized (this) {
+            this.version++;
+            this.entries.clear();
+        }
+    }
+
+    /*
+     * Returns the cached or loading future of the key, or registers the key for the next load.
+     */
+    private CompletableFuture<QueryResultEntry> request(Object key) {
+        Object normalized = normalizeKey(key);
+        Entry entry = this.entries.get(normalized);
+        if(entry != null) {
+            if(!entry.future.isDone() || entry.expireTime >= System.currentTimeMillis()) return entry.future;
+            this.entries.remove(normalized);
+        }
+        Request request = this.pending.get(normalized);
+        if(request == null) {
+            request = new Request(key);
+            this.pending.put(normalized, request);
+            this.entries.put(normalized, new Entry(request.future));
+        }
+        return request.future;
+    }
+
+    private boolean startLoading() {
+        if(this.loading || this.pending.isEmpty()) return false;
+        this.loading = true;
+        return true;
+    }
+
+    /*
+     * A synchronous request loads the keys which are pending at that time in the calling thread, keys requested meanwhile
+     * are loaded on the query executor. Every executor task loads one batch and submits the next one. If the executor
+     * rejects a load, the completing thread loads at most MAX_REJECTED_LOADS batches and fails the remaining keys.
+     */
+    private void load(boolean async) {
+        if(async || loadBatch()) submitLoad();
+    }
+
+    private void submitLoad() {
+        QueryExecutor.of(this.driver).submit(() -> {
+            if(loadBatch()) submitLoad();
+            return null;
+        }).whenComplete((ignored, throwable) -> {
+            if(throwable != null) loadRejected(throwable);
+        });
+    }
+
+    private void loadRejected(Throwable cause) {
+        for (int i = 0; i < MAX_REJECTED_LOADS; i++) {
+            if(!loadBatch()) return;
+        }
+        Map<Object, Request> batch;
+        synchronized (this) {
+            batch = takePending();
+            this.loading = false;
+            batch.forEach((key, request) -> removeEntry(key, request.future));
+        }
+        batch.values().forEach(request -> request.future.completeExceptionally(cause));
+    }
+
+    /*
+     * Loads the pending keys with one query. Returns true if keys were requested during the load, the loading flag stays
+     * set in that case and the caller has to load them.
+     */
+    private boolean loadBatch() {
+        Map<Object, Request> batch;
+        long version;
+        synchronized (this) {
+            batch = takePending();
+            version = this.version;
+        }
+        Map<Object, QueryResultEntry> result;
+        try {
+            result = loadEntries(batch);
+        } catch (RuntimeException exception) {
+            synchronized (this) {
+                batch.forEach((key, request) -> removeEntry(key, request.future));
+            }
+            batch.values().forEach(request -> request.future.completeExceptionally(exception));
+            return continueLoading();
+        }
+        long expireTime = System.currentTimeMillis() + this.expire;
+        synchronized (this) {
+            batch.forEach((key, request) -> {
+                //Entries loaded before a write are outdated
+                if(version != this.version) removeEntry(key, request.future);
+                else {
+                    Entry entry = this.entries.get(key);
+                    if(entry != null && entry.future == request.future) entry.expireTime = expireTime;
+                }
+            });
+        }
+        batch.forEach((key, request) -> request.future.complete(result.get(key)));
+        return continueLoading();
+    }
+
+    private synchronized boolean continueLoading() {
+        if(!this.pending.isEmpty()) return true;
+        this.loading = false;
+        return false;
+    }
+
+    private Map<Object, Request> takePending() {
+        Map<Object, Request> batch = new LinkedHashMap<>(this.pending);
+        this.pending.clear();
+        return batch;
+    }
+
+    /*
+     * Returns the loaded entries by their normalized key, the query is executed with the requested keys.
+     */
+    private Map<Object, QueryResultEntry> loadEntries(Map<Object, Request> batch) {
+        List<Object> values = new ArrayList<>(batch.size());
+        for (Request request : batch.values()) values.add(request.key);
+        Map<Object, QueryResultEntry> loaded = new HashMap<>();
+        Map<String, QueryResultEntry> loadedNames = new HashMap<>();
+        for (QueryResultEntry entry : this.collection.find().whereIn(this.field, values).execute()) {
+            Object key = normalizeKey(entry.getObject(this.field));
+            loaded.putIfAbsent(key, entry);
+            String name = getKeyName(key);
+            if(name != null) loadedNames.putIfAbsent(name, entry);
+        }
+        Map<Object, QueryResultEntry> result = new HashMap<>();
+        for (Object key : batch.keySet()) {
+            QueryResultEntry entry = loaded.get(key);
+            if(entry == null) {
+                String name = getKeyName(key);
+                if(name != null) entry = loadedNames.get(name);
+            }
+            if(entry != null) result.put(key, entry);
+        }
+        return result;
+    }
+
+    private void removeEntry(Object key, CompletableFuture<QueryResultEntry> future) {
+        Entry entry = this.entries.get(key);
+        if(entry != null && entry.future == future) this.entries.remove(key);
+    }
+
+    /*
+     * Converts the key like the where in query binds it, the database may return another type than the requested key.
+     * Integer keys are compared as long and binary keys by their content.
+     */
+    @SuppressWarnings("unchecked")
+    private Object normalizeKey(Object key) {
+        if(key != null && !(key instanceof byte[]) && !Primitives.isPrimitive(key)) {
+            DataTypeAdapter adapter = this.driver.getDataTypeAdapter(key.getClass());
+            key = adapter != null ? adapter.write(key) : key.toString();
+        }
+        if(key instanceof Integer || key instanceof Short || key instanceof Byte) return ((Number) key).longValue();
+        if(key instanceof byte[]) return ByteBuffer.wrap((byte[]) key);
+        return key;
+    }
+
+    private static String getKeyName(Object key) {
+        if(key == null || key instanceof ByteBuffer) return null;
+        return key.toString().toLowerCase(Locale.ROOT);
+    }
+
+    private static class Request {
+
+        private final Object key;
+        private final CompletableFuture<QueryResultEntry> future;
+
+        private Request(Object key) {
+            this.key = key;
+            this.future = new CompletableFuture<>();
+        }
+    }
+
+    private static class Entry {
+
+        private final CompletableFuture<QueryResultEntry> future;
+        private long expireTime;
+
+        private Entry(CompletableFuture<QueryResultEntry> future) {
+            this.future = future;
+            this.expireTime = Long.MAX_VALUE;
+        }
+    }
+
+    private class EntryMap extends LinkedHashMap<Object, Entry> {
+
+        private EntryMap() {
+            super(16, 0.75F, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            return size() > KeyCache.this.size;
+        }
+    }
+}
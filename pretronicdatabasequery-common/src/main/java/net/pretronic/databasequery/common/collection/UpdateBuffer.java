@@ -0,0 +1,217 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 23:05
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.collection;
+
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.query.Query;
+import net.pretronic.databasequery.api.query.QueryGroup;
+import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.driver.WriteBuffer;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Write behind buffer for arithmetic updates of a collection. The deltas are summed up per key and field in a
+ * concurrent map and flushed as update queries in one query group, on a fixed interval or if the buffer is full.
+ *
+ * <p>Consecutive updates of the same field have the same sql query and are executed as one jdbc batch. If a flush
+ * fails, the deltas are added to the buffer again and retried with the next flush.</p>
+ */
+@Internal
+public class UpdateBuffer implements WriteBuffer {
+
+    public static final int DEFAULT_SIZE = 10000;
+    public static final long DEFAULT_INTERVAL = 1000;
+
+    private final AbstractDatabaseDriver driver;
+    private final DatabaseCollection collection;
+    private final int size;
+    private final ConcurrentMap<Key, Number> deltas;
+    private final ScheduledFuture<?> task;
+    private final AtomicBoolean flushRequested;
+    private final AtomicLong addedDeltas;
+    private final AtomicLong flushedDeltas;
+    private final AtomicLong flushes;
+    private final AtomicLong failedFlushes;
+    private volatile boolean closed;
+
+    public UpdateBuffer(AbstractDatabaseDriver driver, DatabaseCollection collection, int size, long interval) {
+        this.driver = driver;
+        this.collection = collection;
+        this.size = size;
+        this.deltas = new ConcurrentHashMap<>();
+        this.flushRequested = new AtomicBoolean();
+        this.addedDeltas = new AtomicLong();
+        this.flushedDeltas = new AtomicLong();
+        this.flushes = new AtomicLong();
+        this.failedFlushes = new AtomicLong();
+        this.task = driver.getScheduler().scheduleWithFixedDelay(this::flushSafely, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    public int getPendingDeltas() {
+        return deltas.size();
+    }
+
+    public long getAddedDeltas() {
+        return addedDeltas.get();
+    }
+
+    public long getFlushedDeltas() {
+        return flushedDeltas.get();
+    }
+
+    public long getFlushes() {
+        return flushes.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    public void add(String keyField, Object key, String field, Number delta) {
+        if(this.closed) throw new IllegalStateException("Update buffer of collection " + this.collection.getName() + " is closed");
+        this.deltas.merge(new Key(keyField, key, field), delta, UpdateBuffer::sum);
+        this.addedDeltas.incrementAndGet();
+
+        //The buffer was closed concurrently, the last flush could have missed the delta
+        if(this.closed) flush();
+        else if(this.deltas.size() >= this.size && this.flushRequested.compareAndSet(false, true)) {
+            //A rejected flush is retried by the next scheduled flush
+            QueryExecutor.of(this.driver).submit(() -> {
+                flushSafely();
+                return null;
+            }).whenComplete((ignored, throwable) -> this.flushRequested.set(false));
+        }
+    }
+
+    @Override
+    public synchronized void flush() {
+        if(this.deltas.isEmpty()) return;
+        //Removing the delta is atomic with merge, deltas added later stay in the buffer
+        Map<String, List<Map.Entry<Key, Number>>> updates = new LinkedHashMap<>();
+        for (Key key : this.deltas.keySet()) {
+            Number delta = this.deltas.remove(key);
+            if(delta == null) continue;
+            updates.computeIfAbsent(key.keyField + '\u0000' + key.field, ignored -> new ArrayList<>())
+                    .add(new AbstractMap.SimpleImmutableEntry<>(key, delta));
+        }
+        List<Map.Entry<Key, Number>> entries = new ArrayList<>();
+        updates.values().forEach(entries::addAll);
+        this.flushes.incrementAndGet();
+
+        QueryGroup group = this.collection.group();
+        int executed = 0;
+        try {
+            if(group != null) {
+                for (Map.Entry<Key, Number> entry : entries) group.add(buildQuery(entry));
+                group.execute();
+                executed = entries.size();
+            } else {
+                for (Map.Entry<Key, Number> entry : entries) {
+                    buildQuery(entry).execute();
+                    executed++;
+                }
+            }
+        } catch (RuntimeException exception) {
+            this.failedFlushes.incrementAndGet();
+            for (Map.Entry<Key, Number> entry : entries.subList(executed, entries.size())) {
+                this.deltas.merge(entry.getKey(), entry.getValue(), UpdateBuffer::sum);
+            }
+            throw exception;
+        } finally {
+            this.flushedDeltas.addAndGet(executed);
+        }
+    }
+
+    @Override
+    public void close() {
+        if(this.closed) return;
+        this.closed = true;
+        this.task.cancel(false);
+        this.driver.unregisterWriteBuffer(this);
+        flush();
+    }
+
+    private void flushSafely() {
+        try {
+            flush();
+        } catch (RuntimeException exception) {
+            this.driver.getLogger().error("{} - Error flushing update buffer of collection {}: {}", this.driver.getName(),
+                    this.collection.getName(), exception.getMessage());
+        }
+    }
+
+    private Query buildQuery(Map.Entry<Key, Number> entry) {
+        Key key = entry.getKey();
+        return this.collection.update().add(key.field, entry.getValue()).where(key.keyField, key.key);
+    }
+
+    private static Number sum(Number value1, Number value2) {
+        if(isIntegral(value1) && isIntegral(value2)) return value1.longValue() + value2.longValue();
+        return value1.doubleValue() + value2.doubleValue();
+    }
+
+    private static boolean isIntegral(Number value) {
+        return value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte;
+    }
+
+    private static class Key {
+
+        private final String keyField;
+        private final Object key;
+        private final String field;
+
+        private Key(String keyField, Object key, String field) {
+            this.keyField = keyField;
+            this.key = key;
+            this.field = field;
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(this == object) return true;
+            if(!(object instanceof Key)) return false;
+            Key other = (Key) object;
+            return keyField.equals(other.keyField) && key.equals(other.key) && field.equals(other.field);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(keyField, key, field);
+        }
+    }
+}
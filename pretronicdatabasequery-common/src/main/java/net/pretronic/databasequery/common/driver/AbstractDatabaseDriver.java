@@ -22,11 +22,17 @@ package net.pretronic.databasequery.common.driver;
 import net.pretronic.databasequery.api.datatype.adapter.DataTypeAdapter;
 import net.pretronic.databasequery.api.driver.DatabaseDriver;
 import net.pretronic.databasequery.api.driver.config.DatabaseDriverConfig;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
 import net.pretronic.libraries.logging.PretronicLogger;
+import net.pretronic.libraries.utility.annonations.Internal;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
 
 public abstract class AbstractDatabaseDriver implements DatabaseDriver {
 
@@ -36,6 +42,10 @@ public abstract class AbstractDatabaseDriver implements DatabaseDriver {
     private final PretronicLogger logger;
     private final ExecutorService executorService;
     private final Map<Class<?>, DataTypeAdapter<?>> dataTypeAdapters;
+    private final Collection<WriteBuffer> writeBuffers;
+    private final DefaultQueryMetrics queryMetrics;
+    private QueryExecutor queryExecutor;
+    private ScheduledExecutorService scheduler;
 
     public AbstractDatabaseDriver(String name, String type, DatabaseDriverConfig<?> config, PretronicLogger logger, ExecutorService executorService) {
         this.name = name;
@@ -44,6 +54,8 @@ public abstract class AbstractDatabaseDriver implements DatabaseDriver {
         this.logger = logger;
         this.executorService = executorService;
         this.dataTypeAdapters = new HashMap<>();
+        this.writeBuffers = new CopyOnWriteArrayList<>();
+        this.queryMetrics = createQueryMetrics();
 
         registerDefaultAdapters();
     }
@@ -73,6 +85,81 @@ public abstract class AbstractDatabaseDriver implements DatabaseDriver {
         return this.executorService;
     }
 
+    @Override
+    public DefaultQueryMetrics getQueryMetrics() {
+        return this.queryMetrics;
+    }
+
+    /*
+     * Called in the constructor, implementations can't access their own fields.
+     */
+    protected DefaultQueryMetrics createQueryMetrics() {
+        return new DefaultQueryMetrics(this, false);
+    }
+
+    public synchronized QueryExecutor getQueryExecutor() {
+        if(this.queryExecutor == null) {
+            this.queryExecutor = createQueryExecutor();
+        }
+        return this.queryExecutor;
+    }
+
+    protected QueryExecutor createQueryExecutor() {
+        return new PooledQueryExecutor(this.name, Runtime.getRuntime().availableProcessors(), 1000, PooledQueryExecutor.RejectionPolicy.ABORT);
+    }
+
+    protected synchronized void shutdownQueryExecutor() {
+        if(this.queryExecutor != null) {
+            this.queryExecutor.shutdown();
+            this.queryExecutor = null;
+        }
+    }
+
+    /*
+     * Single daemon thread for the background flushes of the write buffers, created on first use.
+     */
+    @Internal
+    public synchronized ScheduledExecutorService getScheduler() {
+        if(this.scheduler == null) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, this.name + "-scheduler");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.scheduler;
+    }
+
+    @Internal
+    public void registerWriteBuffer(WriteBuffer buffer) {
+        this.writeBuffers.add(buffer);
+    }
+
+    @Internal
+    public void unregisterWriteBuffer(WriteBuffer buffer) {
+        this.writeBuffers.remove(buffer);
+    }
+
+    /*
+     * Flushes the remaining operations of all write buffers, called on disconnect while the connections are still open.
+     */
+    protected void closeWriteBuffers() {
+        for (WriteBuffer buffer : this.writeBuffers) {
+            try {
+                buffer.close();
+            } catch (RuntimeException exception) {
+                this.logger.error("{} - Error flushing write buffer on disconnect: {}", this.name, exception.getMessage());
+            }
+        }
+        this.writeBuffers.clear();
+        synchronized (this) {
+            if(this.scheduler != null) {
+                this.scheduler.shutdown();
+                this.scheduler = null;
+            }
+        }
+    }
+
     @Override
     public Map<Class<?>, DataTypeAdapter<?>> getDataTypeAdapters() {
         return this.dataTypeAdapters;
@@ -0,0 +1,68 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 21:10
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Base of the query executors, measures the time operations wait before their execution.
+ */
+public abstract class AbstractQueryExecutor implements QueryExecutor {
+
+    private final LongAdder waitTime;
+    private final LongAdder executions;
+    private final AtomicLong maxWaitTime;
+
+    protected AbstractQueryExecutor() {
+        this.waitTime = new LongAdder();
+        this.executions = new LongAdder();
+        this.maxWaitTime = new AtomicLong();
+    }
+
+    @Override
+    public long getAverageWaitTime() {
+        long executions = this.executions.sum();
+        return executions == 0 ? 0 : this.waitTime.sum() / executions;
+    }
+
+    @Override
+    public long getMaxWaitTime() {
+        return this.maxWaitTime.get();
+    }
+
+    protected void recordWaitTime(long waitTime) {
+        this.waitTime.add(waitTime);
+        this.executions.increment();
+        this.maxWaitTime.accumulateAndGet(waitTime, Math::max);
+    }
+
+    protected <T> void execute(CompletableFuture<T> future, Callable<T> operation) {
+        //The future was cancelled while the operation was waiting for its execution
+        if(future.isDone()) return;
+        try {
+            future.complete(operation.call());
+        } catch (Throwable throwable) {
+            future.completeExceptionally(throwable);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 20:45
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Executes the operations on a bounded thread pool. The parallelism should match the maximum amount of
+ * connections, more threads would only wait for a free connection.
+ */
+public class PooledQueryExecutor extends AbstractQueryExecutor {
+
+    private final ThreadPoolExecutor executor;
+
+    public PooledQueryExecutor(String name, int parallelism, int queueSize, RejectionPolicy rejectionPolicy) {
+        this.executor = new ThreadPoolExecutor(parallelism, parallelism, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueSize), new QueryThreadFactory(name),
+                rejectionPolicy == RejectionPolicy.CALLER_RUNS ? new CallerRunsPolicy() : new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        try {
+            this.executor.execute(() -> {
+                recordWaitTime(System.nanoTime() - submitted);
+                execute(future, operation);
+            });
+        } catch (RejectedExecutionException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return this.executor.getQueue().size();
+    }
+
+    public int getActiveCount() {
+        return this.executor.getActiveCount();
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    public enum RejectionPolicy {
+
+        /**
+         * The future of a rejected operation completes exceptionally with a {@link RejectedExecutionException}.
+         */
+        ABORT,
+
+        /**
+         * A rejected operation is executed by the submitting thread. After a shutdown, operations are
+         * rejected like with {@link #ABORT}.
+         */
+        CALLER_RUNS
+    }
+
+    /*
+     * The caller runs policy of the jdk silently discards operations after a shutdown, their futures would never complete.
+     */
+    private static class CallerRunsPolicy implements RejectedExecutionHandler {
+
+        @Override
+        public void rejectedExecution(Runnable runnable, ThreadPoolExecutor executor) {
+            if(executor.isShutdown()) throw new RejectedExecutionException("Query executor is shut down");
+            runnable.run();
+        }
+    }
+
+    private static class QueryThreadFactory implements ThreadFactory {
+
+        private final String name;
+        private final AtomicInteger count;
+
+        private QueryThreadFactory(String name) {
+            this.name = name;
+            this.count = new AtomicInteger();
+        }
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, this.name + "-query-" + this.count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
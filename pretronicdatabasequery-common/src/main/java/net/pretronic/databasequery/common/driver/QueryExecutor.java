@@ -0,0 +1,69 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 20:40
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Executes the asynchronous operations of a driver. The returned futures complete exceptionally, if the
+ * operation fails or is rejected by the executor.
+ */
+public interface QueryExecutor {
+
+    <T> CompletableFuture<T> submit(Callable<T> operation);
+
+    /**
+     * @return the amount of operations which are waiting for execution
+     */
+    int getQueueDepth();
+
+    /**
+     * @return the average time in nanoseconds an operation waited before its execution
+     */
+    long getAverageWaitTime();
+
+    /**
+     * @return the longest time in nanoseconds an operation waited before its execution
+     */
+    long getMaxWaitTime();
+
+    void shutdown();
+
+    static QueryExecutor of(DatabaseDriver driver) {
+        if(driver instanceof AbstractDatabaseDriver) return ((AbstractDatabaseDriver) driver).getQueryExecutor();
+        throw new IllegalArgumentException("Driver " + driver.getClass() + " doesn't provide a query executor");
+    }
+
+    enum Type {
+
+        /**
+         * Operations are executed on a bounded thread pool, see {@link PooledQueryExecutor}.
+         */
+        POOLED,
+
+        /**
+         * Operations are executed on virtual threads, see {@link VirtualThreadQueryExecutor}.
+         */
+        VIRTUAL
+    }
+}
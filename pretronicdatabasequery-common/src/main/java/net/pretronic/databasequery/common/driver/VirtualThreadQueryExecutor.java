@@ -0,0 +1,100 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 21:25
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Executes every operation on its own virtual thread. A semaphore limits the concurrent operations to the
+ * amount of connections, waiting virtual threads don't block a platform thread.
+ *
+ * <p>Virtual threads are only available on Java 21 and newer, see {@link #isSupported()}.</p>
+ */
+public class VirtualThreadQueryExecutor extends AbstractQueryExecutor {
+
+    private static final Method NEW_EXECUTOR_METHOD = findExecutorMethod();
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+
+    public VirtualThreadQueryExecutor(int parallelism) {
+        if(!isSupported()) throw new UnsupportedOperationException("Virtual threads are not supported by this java runtime");
+        try {
+            this.executor = (ExecutorService) NEW_EXECUTOR_METHOD.invoke(null);
+        } catch (ReflectiveOperationException exception) {
+            throw new UnsupportedOperationException("Can't create virtual thread executor", exception);
+        }
+        this.permits = new Semaphore(parallelism, true);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> submit(Callable<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        long submitted = System.nanoTime();
+        try {
+            this.executor.execute(() -> {
+                try {
+                    this.permits.acquire();
+                } catch (InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    future.completeExceptionally(exception);
+                    return;
+                }
+                try {
+                    recordWaitTime(System.nanoTime() - submitted);
+                    execute(future, operation);
+                } finally {
+                    this.permits.release();
+                }
+            });
+        } catch (RejectedExecutionException exception) {
+            future.completeExceptionally(exception);
+        }
+        return future;
+    }
+
+    @Override
+    public int getQueueDepth() {
+        return this.permits.getQueueLength();
+    }
+
+    @Override
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    public static boolean isSupported() {
+        return NEW_EXECUTOR_METHOD != null;
+    }
+
+    private static Method findExecutorMethod() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException ignored) {
+            return null;
+        }
+    }
+}
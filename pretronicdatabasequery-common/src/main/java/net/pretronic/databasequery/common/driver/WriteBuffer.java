@@ -0,0 +1,40 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 22:50
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver;
+
+import net.pretronic.libraries.utility.annonations.Internal;
+
+/**
+ * A buffer of write operations, which are executed delayed in the background. All buffers of a driver are
+ * flushed and closed before the driver disconnects.
+ */
+@Internal
+public interface WriteBuffer {
+
+    /**
+     * Executes all buffered operations.
+     */
+    void flush();
+
+    /**
+     * Stops the background flushes and flushes the remaining operations.
+     */
+    void close();
+}
@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 00:50
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver.metrics;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.driver.metrics.QueryMetrics;
+import net.pretronic.databasequery.api.driver.metrics.QueryMetricsExporter;
+import net.pretronic.databasequery.api.driver.metrics.QueryShapeMetrics;
+import net.pretronic.libraries.utility.Validate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Records the metrics per compiled statement. Drivers resolve the collection and the type of a statement by
+ * overriding {@link #createShape(String)}, the shape is only created on the first execution of a statement.
+ *
+ * <p>The amount of shapes is limited, executions of further statements are recorded in one shared shape.</p>
+ */
+public class DefaultQueryMetrics implements QueryMetrics {
+
+    public static final int MAX_SHAPES = 1000;
+    public static final String OTHER_STATEMENT = "<other>";
+
+    private final DatabaseDriver driver;
+    private final ConcurrentMap<String, DefaultQueryShapeMetrics> shapes;
+    private final Collection<QueryMetricsExporter> exporters;
+    private volatile boolean enabled;
+
+    public DefaultQueryMetrics(DatabaseDriver driver, boolean enabled) {
+        this.driver = driver;
+        this.shapes = new ConcurrentHashMap<>();
+        this.exporters = new CopyOnWriteArrayList<>();
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    @Override
+    public Collection<QueryShapeMetrics> getShapes() {
+        return Collections.unmodifiableCollection(new ArrayList<>(this.shapes.values()));
+    }
+
+    @Override
+    public QueryShapeMetrics getShape(String statement) {
+        Validate.notNull(statement);
+        return this.shapes.get(statement);
+    }
+
+    @Override
+    public Collection<QueryMetricsExporter> getExporters() {
+        return Collections.unmodifiableCollection(this.exporters);
+    }
+
+    @Override
+    public void registerExporter(QueryMetricsExporter exporter) {
+        Validate.notNull(exporter);
+        this.exporters.add(exporter);
+    }
+
+    @Override
+    public void unregisterExporter(QueryMetricsExporter exporter) {
+        this.exporters.remove(exporter);
+    }
+
+    @Override
+    public void export() {
+        Collection<QueryShapeMetrics> shapes = getShapes();
+        for (QueryMetricsExporter exporter : this.exporters) {
+            try {
+                exporter.export(this.driver, shapes);
+            } catch (RuntimeException exception) {
+                this.driver.getLogger().error("{} - Error exporting query metrics: {}", this.driver.getName(), exception.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public void reset() {
+        this.shapes.clear();
+    }
+
+    /*
+     * Returns the shape for recording an execution, callers have to check isEnabled before measuring.
+     */
+    @Internal
+    public DefaultQueryShapeMetrics getOrCreateShape(String statement) {
+        DefaultQueryShapeMetrics shape = this.shapes.get(statement);
+        if(shape != null) return shape;
+        if(this.shapes.size() >= MAX_SHAPES) statement = OTHER_STATEMENT;
+        return this.shapes.computeIfAbsent(statement, this::createShape);
+    }
+
+    protected DefaultQueryShapeMetrics createShape(String statement) {
+        return new DefaultQueryShapeMetrics(null, null, statement);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 00:40
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver.metrics;
+
+import net.pretronic.databasequery.api.driver.metrics.QueryShapeMetrics;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class DefaultQueryShapeMetrics implements QueryShapeMetrics {
+
+    private final String collection;
+    private final String type;
+    private final String statement;
+    private final LongAdder count;
+    private final LongAdder errors;
+    private final LongAdder rows;
+    private final LongAdder totalLatency;
+    private final LongAccumulator maxLatency;
+    private final LatencyHistogram latencies;
+    private final LongAdder connectionWaits;
+    private final LongAdder connectionWaitTime;
+
+    public DefaultQueryShapeMetrics(String collection, String type, String statement) {
+        this.collection = collection;
+        this.type = type;
+        this.statement = statement;
+        this.count = new LongAdder();
+        this.errors = new LongAdder();
+        this.rows = new LongAdder();
+        this.totalLatency = new LongAdder();
+        this.maxLatency = new LongAccumulator(Math::max, 0);
+        this.latencies = new LatencyHistogram();
+        this.connectionWaits = new LongAdder();
+        this.connectionWaitTime = new LongAdder();
+    }
+
+    @Override
+    public String getCollection() {
+        return collection;
+    }
+
+    @Override
+    public String getType() {
+        return type;
+    }
+
+    @Override
+    public String getStatement() {
+        return statement;
+    }
+
+    @Override
+    public long getCount() {
+        return count.sum();
+    }
+
+    @Override
+    public long getErrors() {
+        return errors.sum();
+    }
+
+    @Override
+    public long getRows() {
+        return rows.sum();
+    }
+
+    @Override
+    public long getTotalLatency() {
+        return totalLatency.sum();
+    }
+
+    @Override
+    public long getAverageLatency() {
+        long count = getCount();
+        return count == 0 ? 0 : getTotalLatency() / count;
+    }
+
+    @Override
+    public long getMaxLatency() {
+        return maxLatency.get();
+    }
+
+    @Override
+    public long getLatencyPercentile(double percentile) {
+        return latencies.getPercentile(percentile);
+    }
+
+    @Override
+    public long getConnectionWaitTime() {
+        return connectionWaitTime.sum();
+    }
+
+    @Override
+    public long getAverageConnectionWaitTime() {
+        long waits = this.connectionWaits.sum();
+        return waits == 0 ? 0 : getConnectionWaitTime() / waits;
+    }
+
+    @Internal
+    public void recordExecution(long latency, long rows) {
+        this.count.increment();
+        this.rows.add(rows);
+        this.totalLatency.add(latency);
+        this.maxLatency.accumulate(latency);
+        this.latencies.record(latency);
+    }
+
+    @Internal
+    public void recordError() {
+        this.errors.increment();
+    }
+
+    @Internal
+    public void recordConnectionWait(long time) {
+        this.connectionWaits.increment();
+        this.connectionWaitTime.add(time);
+    }
+}
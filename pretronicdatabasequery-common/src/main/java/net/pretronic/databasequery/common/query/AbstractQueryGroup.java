@@ -54,6 +54,10 @@ public abstract class AbstractQueryGroup implements QueryGroup {
         this.entries.clear();
     }
 
+    protected List<Entry> getEntries() {
+        return this.entries;
+    }
+
     protected static class Entry {
 
         final Query query;
@@ -63,5 +67,13 @@ public abstract class AbstractQueryGroup implements QueryGroup {
             this.query = query;
             this.values = values;
         }
+
+        public Query getQuery() {
+            return query;
+        }
+
+        public Object[] getValues() {
+            return values;
+        }
     }
 }
@@ -0,0 +1,161 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 18:45
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.libraries.utility.Convert;
+
+import java.util.Date;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Base of all result entries, the typed getters convert the values of {@link #getObject(int)} and {@link #getObject(String)}.
+ */
+public abstract class AbstractQueryResultEntry implements QueryResultEntry {
+
+    protected final DatabaseDriver driver;
+
+    public AbstractQueryResultEntry(DatabaseDriver driver) {
+        this.driver = driver;
+    }
+
+    @Override
+    public <T> T getAsObject(Class<T> clazz) {
+        return QueryResultMapper.of(clazz).map(this);
+    }
+
+    /**
+     * @return the shared schema of the result or null, if the entry has its own column names
+     */
+    public QueryResultSchema getSchema() {
+        return null;
+    }
+
+    public boolean isNull(int index) {
+        return getObject(index) == null;
+    }
+
+    @Override
+    public <T> T getObject(int index, Class<T> clazz) {
+        return this.driver.getDataTypeAdapter(clazz).read(getObject(index));
+    }
+
+    @Override
+    public <T> T getObject(String key, Class<T> clazz) {
+        return this.driver.getDataTypeAdapter(clazz).read(getObject(key));
+    }
+
+    @Override
+    public String getString(int index) {
+        return Convert.toString(getObject(index));
+    }
+
+    @Override
+    public String getString(String key) {
+        return Convert.toString(getObject(key));
+    }
+
+    @Override
+    public int getInt(int index) {
+        return Convert.toInteger(getObject(index));
+    }
+
+    @Override
+    public int getInt(String key) {
+        return Convert.toInteger(getObject(key));
+    }
+
+    @Override
+    public long getLong(int index) {
+        return Convert.toLong(getObject(index));
+    }
+
+    @Override
+    public long getLong(String key) {
+        return Convert.toLong(getObject(key));
+    }
+
+    @Override
+    public double getDouble(int index) {
+        return Convert.toDouble(getObject(index));
+    }
+
+    @Override
+    public double getDouble(String key) {
+        return Convert.toDouble(getObject(key));
+    }
+
+    @Override
+    public float getFloat(int index) {
+        return Convert.toFloat(getObject(index));
+    }
+
+    @Override
+    public float getFloat(String key) {
+        return Convert.toFloat(getObject(key));
+    }
+
+    @Override
+    public byte getByte(int index) {
+        return Convert.toByte(getObject(index));
+    }
+
+    @Override
+    public byte getByte(String key) {
+        return Convert.toByte(getObject(key));
+    }
+
+    @Override
+    public boolean getBoolean(int index) {
+        return Convert.toBoolean(getObject(index));
+    }
+
+    @Override
+    public boolean getBoolean(String key) {
+        return Convert.toBoolean(getObject(key));
+    }
+
+    @Override
+    public Date getDate(int index) {
+        return Convert.toDate(getObject(index));
+    }
+
+    @Override
+    public Date getDate(String key) {
+        return Convert.toDate(getObject(key));
+    }
+
+    @Override
+    public UUID getUniqueId(int index) {
+        return Convert.toUUID(getObject(index));
+    }
+
+    @Override
+    public UUID getUniqueId(String key) {
+        return Convert.toUUID(getObject(key));
+    }
+
+    @Override
+    public <T> T to(Function<QueryResultEntry, T> function) {
+        return function.apply(this);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 19:40
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A query result which stores its values per column. The entries are views on a row of the columns,
+ * they are created on the first access and reused afterwards.
+ */
+public class ColumnarQueryResult implements QueryResult {
+
+    private final DatabaseDriver driver;
+    private final QueryResultSchema schema;
+    private final QueryResultColumn[] columns;
+    private int size;
+    private volatile AtomicReferenceArray<QueryResultEntry> entries;
+
+    public ColumnarQueryResult(DatabaseDriver driver, QueryResultSchema schema, QueryResultColumn[] columns) {
+        this.driver = driver;
+        this.schema = schema;
+        this.columns = columns;
+    }
+
+    public QueryResultSchema getSchema() {
+        return schema;
+    }
+
+    public QueryResultColumn getColumn(int index) {
+        return this.columns[index];
+    }
+
+    /**
+     * Completes a row after a value was added to every column.
+     */
+    public void addRow() {
+        this.size++;
+        this.entries = null;
+    }
+
+    @Override
+    public QueryResultEntry first() {
+        return get(0);
+    }
+
+    @Override
+    public QueryResultEntry firstOrNull() {
+        return getOrNull(0);
+    }
+
+    @Override
+    public QueryResultEntry last() {
+        return get(this.size-1);
+    }
+
+    @Override
+    public QueryResultEntry lastOrNull() {
+        return getOrNull(this.size-1);
+    }
+
+    @Override
+    public QueryResultEntry get(int index) {
+        if(index < 0 || index >= this.size) throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        AtomicReferenceArray<QueryResultEntry> entries = getEntries();
+        QueryResultEntry entry = entries.get(index);
+        if(entry == null) {
+            entry = new ColumnarQueryResultEntry(this.driver, this, index);
+            //Concurrent readers of a cached result get the same entry
+            if(!entries.compareAndSet(index, null, entry)) entry = entries.get(index);
+        }
+        return entry;
+    }
+
+    private AtomicReferenceArray<QueryResultEntry> getEntries() {
+        AtomicReferenceArray<QueryResultEntry> entries = this.entries;
+        if(entries == null) {
+            synchronized (this) {
+                entries = this.entries;
+                if(entries == null) {
+                    entries = new AtomicReferenceArray<>(this.size);
+                    this.entries = entries;
+                }
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public QueryResultEntry getOrNull(int index) {
+        return index >= 0 && index < this.size ? get(index) : null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public Stream<QueryResultEntry> stream() {
+        return IntStream.range(0, this.size).mapToObj(this::get);
+    }
+
+    @Override
+    public List<QueryResultEntry> asList() {
+        return new AbstractList<QueryResultEntry>() {
+            @Override
+            public QueryResultEntry get(int index) {
+                return ColumnarQueryResult.this.get(index);
+            }
+
+            @Override
+            public int size() {
+                return ColumnarQueryResult.this.size;
+            }
+        };
+    }
+
+    @Override
+    public <T> void loadIn(Collection<T> collection, Function<QueryResultEntry, T> loader) {
+        for (int i = 0; i < this.size; i++) {
+            collection.add(loader.apply(get(i)));
+        }
+    }
+}
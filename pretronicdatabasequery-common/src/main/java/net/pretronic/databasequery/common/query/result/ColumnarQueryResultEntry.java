@@ -0,0 +1,127 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 19:45
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.libraries.utility.map.IndexCaseIntensiveLinkedHashMap;
+import net.pretronic.libraries.utility.map.IndexCaseIntensiveMap;
+
+/**
+ * A row of a {@link ColumnarQueryResult}, the numeric getters read directly from the primitive columns.
+ */
+public class ColumnarQueryResultEntry extends AbstractQueryResultEntry {
+
+    private final ColumnarQueryResult result;
+    private final int row;
+
+    public ColumnarQueryResultEntry(DatabaseDriver driver, ColumnarQueryResult result, int row) {
+        super(driver);
+        this.result = result;
+        this.row = row;
+    }
+
+    @Override
+    public QueryResultSchema getSchema() {
+        return this.result.getSchema();
+    }
+
+    @Override
+    public boolean isNull(int index) {
+        QueryResultColumn column = getColumn(index);
+        return column == null || column.isNull(this.row);
+    }
+
+    @Override
+    public IndexCaseIntensiveMap<Object> asMap() {
+        QueryResultSchema schema = this.result.getSchema();
+        IndexCaseIntensiveMap<Object> map = new IndexCaseIntensiveLinkedHashMap<>();
+        for (int i = 0; i < schema.size(); i++) {
+            map.put(schema.getName(i), getObject(i));
+        }
+        return map;
+    }
+
+    @Override
+    public Object getObject(int index) {
+        QueryResultColumn column = getColumn(index);
+        return column != null ? column.getObject(this.row) : null;
+    }
+
+    @Override
+    public Object getObject(String key) {
+        QueryResultColumn column = getColumn(key);
+        return column != null ? column.getObject(this.row) : null;
+    }
+
+    @Override
+    public int getInt(int index) {
+        QueryResultColumn column = getColumn(index);
+        return column != null ? column.getInt(this.row) : super.getInt(index);
+    }
+
+    @Override
+    public int getInt(String key) {
+        QueryResultColumn column = getColumn(key);
+        return column != null ? column.getInt(this.row) : super.getInt(key);
+    }
+
+    @Override
+    public long getLong(int index) {
+        QueryResultColumn column = getColumn(index);
+        return column != null ? column.getLong(this.row) : super.getLong(index);
+    }
+
+    @Override
+    public long getLong(String key) {
+        QueryResultColumn column = getColumn(key);
+        return column != null ? column.getLong(this.row) : super.getLong(key);
+    }
+
+    @Override
+    public double getDouble(int index) {
+        QueryResultColumn column = getColumn(index);
+        return column != null ? column.getDouble(this.row) : super.getDouble(index);
+    }
+
+    @Override
+    public double getDouble(String key) {
+        QueryResultColumn column = getColumn(key);
+        return column != null ? column.getDouble(this.row) : super.getDouble(key);
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.result.getSchema().indexOf(key) != -1;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return index >= 0 && index < this.result.getSchema().size();
+    }
+
+    private QueryResultColumn getColumn(int index) {
+        return contains(index) ? this.result.getColumn(index) : null;
+    }
+
+    private QueryResultColumn getColumn(String key) {
+        int index = this.result.getSchema().indexOf(key);
+        return index != -1 ? this.result.getColumn(index) : null;
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 19:30
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.libraries.utility.Convert;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * The values of one column of a {@link ColumnarQueryResult}. Numeric columns store their values in primitive arrays,
+ * the typed getters read them without boxing.
+ */
+public abstract class QueryResultColumn {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    protected final BitSet nulls;
+    protected int size;
+
+    protected QueryResultColumn() {
+        this.nulls = new BitSet();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isNull(int row) {
+        return this.nulls.get(row);
+    }
+
+    public abstract Object getObject(int row);
+
+    public int getInt(int row) {
+        return Convert.toInteger(getObject(row));
+    }
+
+    public long getLong(int row) {
+        return Convert.toLong(getObject(row));
+    }
+
+    public double getDouble(int row) {
+        return Convert.toDouble(getObject(row));
+    }
+
+    protected int nextRow(boolean isNull) {
+        if(isNull) this.nulls.set(this.size);
+        return this.size++;
+    }
+
+    protected static int grow(int capacity) {
+        return Math.max(DEFAULT_CAPACITY, capacity << 1);
+    }
+
+    public static class IntColumn extends QueryResultColumn {
+
+        private int[] values = new int[0];
+
+        public void add(int value, boolean isNull) {
+            if(this.size == this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length));
+            this.values[nextRow(isNull)] = value;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : this.values[row];
+        }
+
+        @Override
+        public int getInt(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        public long getLong(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    public static class LongColumn extends QueryResultColumn {
+
+        private long[] values = new long[0];
+
+        public void add(long value, boolean isNull) {
+            if(this.size == this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length));
+            this.values[nextRow(isNull)] = value;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : this.values[row];
+        }
+
+        @Override
+        public int getInt(int row) {
+            long value = this.values[row];
+            if(value != (int) value) throw new IllegalArgumentException("Value " + value + " of row " + row + " is out of the int range");
+            return (int) value;
+        }
+
+        @Override
+        public long getLong(int row) {
+            return this.values[row];
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    public static class DoubleColumn extends QueryResultColumn {
+
+        private double[] values = new double[0];
+
+        public void add(double value, boolean isNull) {
+            if(this.size == this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length));
+            this.values[nextRow(isNull)] = value;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return isNull(row) ? null : this.values[row];
+        }
+
+        @Override
+        public int getInt(int row) {
+            return (int) this.values[row];
+        }
+
+        @Override
+        public long getLong(int row) {
+            return (long) this.values[row];
+        }
+
+        @Override
+        public double getDouble(int row) {
+            return this.values[row];
+        }
+    }
+
+    public static class ObjectColumn extends QueryResultColumn {
+
+        private Object[] values = new Object[0];
+
+        public void add(Object value) {
+            if(this.size == this.values.length) this.values = Arrays.copyOf(this.values, grow(this.values.length));
+            this.values[nextRow(value == null)] = value;
+        }
+
+        @Override
+        public Object getObject(int row) {
+            return this.values[row];
+        }
+    }
+}
@@ -0,0 +1,196 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 20:15
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.datatype.adapter.DataTypeAdapter;
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.libraries.utility.reflect.UnsafeInstanceCreator;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Maps result entries to objects of a class. The fields of the class are analysed once and cached per class,
+ * the values are set with method handles. If the entry has a {@link QueryResultSchema}, the columns of the
+ * fields are resolved once per schema and read by index.
+ */
+public class QueryResultMapper<T> {
+
+    private static final ClassValue<QueryResultMapper<?>> MAPPERS = new ClassValue<QueryResultMapper<?>>() {
+        @Override
+        protected QueryResultMapper<?> computeValue(Class<?> type) {
+            return new QueryResultMapper<>(type);
+        }
+    };
+
+    private final Class<T> type;
+    private final FieldMapping[] fields;
+    private volatile SchemaMapping schemaMapping;
+
+    private QueryResultMapper(Class<T> type) {
+        this.type = type;
+        List<FieldMapping> fields = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if(Modifier.isStatic(field.getModifiers())) continue;
+            field.setAccessible(true);
+            fields.add(new FieldMapping(field));
+        }
+        this.fields = fields.toArray(new FieldMapping[0]);
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T> QueryResultMapper<T> of(Class<T> type) {
+        return (QueryResultMapper<T>) MAPPERS.get(type);
+    }
+
+    public T map(AbstractQueryResultEntry entry) {
+        try {
+            T object = UnsafeInstanceCreator.newInstance(this.type);
+            QueryResultSchema schema = entry.getSchema();
+            if(schema != null) {
+                int[] columns = getColumns(schema);
+                for (int i = 0; i < this.fields.length; i++) {
+                    if(columns[i] != -1) this.fields[i].set(object, entry, columns[i]);
+                }
+            } else {
+                for (FieldMapping field : this.fields) {
+                    if(entry.contains(field.name)) field.set(object, entry, field.name);
+                }
+            }
+            return object;
+        } catch (Throwable exception) {
+            throw new IllegalArgumentException("Can't create object for class " + this.type, exception);
+        }
+    }
+
+    private int[] getColumns(QueryResultSchema schema) {
+        SchemaMapping mapping = this.schemaMapping;
+        if(mapping == null || mapping.schema != schema) {
+            int[] columns = new int[this.fields.length];
+            for (int i = 0; i < this.fields.length; i++) {
+                columns[i] = schema.indexOf(this.fields[i].name);
+            }
+            mapping = new SchemaMapping(schema, columns);
+            this.schemaMapping = mapping;
+        }
+        return mapping.columns;
+    }
+
+    private static class SchemaMapping {
+
+        private final QueryResultSchema schema;
+        private final int[] columns;
+
+        private SchemaMapping(QueryResultSchema schema, int[] columns) {
+            this.schema = schema;
+            this.columns = columns;
+        }
+    }
+
+    private static class FieldMapping {
+
+        private final Field field;
+        private final String name;
+        private final Class<?> type;
+        private final MethodHandle setter;
+
+        private FieldMapping(Field field) {
+            this.field = field;
+            this.name = field.getName();
+            this.type = field.getType();
+            this.setter = createSetter(field);
+        }
+
+        private void set(Object object, AbstractQueryResultEntry entry, int column) throws Throwable {
+            if(this.setter == null || !this.type.isPrimitive()) {
+                setObject(object, entry.driver, entry.getObject(column));
+            } else if(!entry.isNull(column)) {
+                if(this.type == int.class) this.setter.invokeExact(object, entry.getInt(column));
+                else if(this.type == long.class) this.setter.invokeExact(object, entry.getLong(column));
+                else if(this.type == double.class) this.setter.invokeExact(object, entry.getDouble(column));
+                else if(this.type == float.class) this.setter.invokeExact(object, entry.getFloat(column));
+                else if(this.type == boolean.class) this.setter.invokeExact(object, entry.getBoolean(column));
+                else if(this.type == byte.class) this.setter.invokeExact(object, entry.getByte(column));
+                else this.field.set(object, toPrimitive(entry.getObject(column)));
+            }
+        }
+
+        private void set(Object object, AbstractQueryResultEntry entry, String key) throws Throwable {
+            if(this.setter == null || !this.type.isPrimitive()) {
+                setObject(object, entry.driver, entry.getObject(key));
+            } else if(entry.getObject(key) != null) {
+                if(this.type == int.class) this.setter.invokeExact(object, entry.getInt(key));
+                else if(this.type == long.class) this.setter.invokeExact(object, entry.getLong(key));
+                else if(this.type == double.class) this.setter.invokeExact(object, entry.getDouble(key));
+                else if(this.type == float.class) this.setter.invokeExact(object, entry.getFloat(key));
+                else if(this.type == boolean.class) this.setter.invokeExact(object, entry.getBoolean(key));
+                else if(this.type == byte.class) this.setter.invokeExact(object, entry.getByte(key));
+                else this.field.set(object, toPrimitive(entry.getObject(key)));
+            }
+        }
+
+        private void setObject(Object object, DatabaseDriver driver, Object value) throws Throwable {
+            if(this.type.isPrimitive()) {
+                //Primitive fields keep their default value for null
+                if(value != null) this.field.set(object, toPrimitive(value));
+                return;
+            }
+            if(value != null && !this.type.isPrimitive() && !this.type.isInstance(value)) {
+                DataTypeAdapter<?> adapter = driver.getDataTypeAdapter(this.type);
+                if(adapter != null) value = adapter.read(value);
+            }
+            if(this.setter != null && !this.type.isPrimitive()) this.setter.invokeExact(object, value);
+            else this.field.set(object, value);
+        }
+
+        /*
+         * Field#set only widens primitive values, numbers are converted to the exact primitive type of the field.
+         */
+        private Object toPrimitive(Object value) {
+            if(value instanceof Number) {
+                Number number = (Number) value;
+                if(this.type == int.class) return number.intValue();
+                else if(this.type == long.class) return number.longValue();
+                else if(this.type == double.class) return number.doubleValue();
+                else if(this.type == float.class) return number.floatValue();
+                else if(this.type == short.class) return number.shortValue();
+                else if(this.type == byte.class) return number.byteValue();
+                else if(this.type == char.class) return (char) number.intValue();
+            } else if(this.type == char.class && value instanceof String && ((String) value).length() == 1) {
+                return ((String) value).charAt(0);
+            }
+            return value;
+        }
+
+        private static MethodHandle createSetter(Field field) {
+            try {
+                Class<?> type = field.getType().isPrimitive() ? field.getType() : Object.class;
+                return MethodHandles.lookup().unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, type));
+            } catch (IllegalAccessException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 19:40
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.libraries.utility.Validate;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.Iterator;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Publishes the entries of a lazily read result stream. The stream is opened with the first demand of a subscriber
+ * and only as many entries as requested are read from it, all signals are emitted on the query executor of the driver.
+ */
+public class QueryResultPublisher implements Publisher<QueryResultEntry> {
+
+    private final QueryExecutor executor;
+    private final LongFunction<Stream<QueryResultEntry>> source;
+
+    /**
+     * @param executor to read the entries with
+     * @param source opens the result stream, the first demand of the subscriber is passed as fetch size hint
+     */
+    public QueryResultPublisher(QueryExecutor executor, LongFunction<Stream<QueryResultEntry>> source) {
+        Validate.notNull(executor, source);
+        this.executor = executor;
+        this.source = source;
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super QueryResultEntry> subscriber) {
+        Validate.notNull(subscriber);
+        ResultSubscription subscription = new ResultSubscription(subscriber);
+        subscriber.onSubscribe(subscription);
+    }
+
+    public static int getFetchSize(long demand, int maxFetchSize) {
+        return (int) Math.max(1, Math.min(demand, maxFetchSize));
+    }
+
+    private class ResultSubscription implements Subscription {
+
+        private final Subscriber<? super QueryResultEntry> subscriber;
+        private final AtomicLong demand;
+        private final AtomicInteger pending;
+
+        private volatile boolean cancelled;
+        private volatile boolean invalidRequest;
+
+        private Stream<QueryResultEntry> stream;
+        private Iterator<QueryResultEntry> iterator;
+        private boolean done;
+
+        private ResultSubscription(Subscriber<? super QueryResultEntry> subscriber) {
+            this.subscriber = subscriber;
+            this.demand = new AtomicLong();
+            this.pending = new AtomicInteger();
+        }
+
+        @Override
+        public void request(long n) {
+            if(n <= 0) {
+                this.invalidRequest = true;
+            } else {
+                this.demand.getAndUpdate(current -> current + n < 0 ? Long.MAX_VALUE : current + n);
+            }
+            schedule();
+        }
+
+        @Override
+        public void cancel() {
+            this.cancelled = true;
+            schedule();
+        }
+
+        /*
+         * Only one drain is running at the same time, requests during a drain are handled by the running drain.
+         */
+        private void schedule() {
+            if(this.pending.getAndIncrement() != 0) return;
+            executor.submit(() -> {
+                drain();
+                return null;
+            }).whenComplete((ignored, throwable) -> {
+                if(throwable != null && !this.done) {
+                    this.done = true;
+                    this.subscriber.onError(throwable);
+                }
+            });
+        }
+
+        private void drain() {
+            int missed = 1;
+            do {
+                if(!this.done) emit();
+                missed = this.pending.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void emit() {
+            try {
+                if(this.cancelled) {
+                    terminate();
+                    return;
+                }
+                if(this.invalidRequest) {
+                    terminate();
+                    this.subscriber.onError(new IllegalArgumentException("Requested amount of entries must be positive"));
+                    return;
+                }
+                long requested = this.demand.get();
+                if(requested == 0) return;
+                if(this.iterator == null) {
+                    this.stream = source.apply(requested);
+                    this.iterator = this.stream.iterator();
+                }
+
+                long emitted = 0;
+                while (emitted != requested) {
+                    if(this.cancelled) {
+                        terminate();
+                        return;
+                    }
+                    if(!this.iterator.hasNext()) {
+                        terminate();
+                        this.subscriber.onComplete();
+                        return;
+                    }
+                    this.subscriber.onNext(this.iterator.next());
+                    emitted++;
+                }
+                if(requested != Long.MAX_VALUE) this.demand.addAndGet(-emitted);
+            } catch (Throwable throwable) {
+                this.done = true;
+                try {
+                    closeStream();
+                } catch (Throwable ignored) {}
+                this.subscriber.onError(throwable);
+            }
+        }
+
+        private void terminate() {
+            this.done = true;
+            closeStream();
+        }
+
+        private void closeStream() {
+            Stream<QueryResultEntry> stream = this.stream;
+            this.stream = null;
+            this.iterator = null;
+            if(stream != null) stream.close();
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 18:50
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The column names of a result. The schema is created once per result and shared by all its entries.
+ */
+public class QueryResultSchema {
+
+    private final String[] names;
+    private final Map<String, Integer> indexes;
+
+    public QueryResultSchema(String[] names) {
+        this.names = names;
+        this.indexes = new HashMap<>(names.length * 2);
+        for (int i = names.length - 1; i >= 0; i--) {
+            this.indexes.put(names[i].toLowerCase(), i);
+        }
+    }
+
+    public int size() {
+        return this.names.length;
+    }
+
+    public String getName(int index) {
+        return this.names[index];
+    }
+
+    /**
+     * @param name of the column, case insensitive
+     * @return the index of the column or -1 if the schema doesn't contain the column
+     */
+    public int indexOf(String name) {
+        Integer index = this.indexes.get(name.toLowerCase());
+        return index != null ? index : -1;
+    }
+}
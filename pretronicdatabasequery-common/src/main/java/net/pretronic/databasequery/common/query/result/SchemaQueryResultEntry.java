@@ -0,0 +1,74 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 18:55
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.libraries.utility.map.IndexCaseIntensiveLinkedHashMap;
+import net.pretronic.libraries.utility.map.IndexCaseIntensiveMap;
+
+/**
+ * A result entry which stores its values in an array, the column names are looked up in the shared {@link QueryResultSchema}.
+ */
+public class SchemaQueryResultEntry extends AbstractQueryResultEntry {
+
+    private final QueryResultSchema schema;
+    private final Object[] values;
+
+    public SchemaQueryResultEntry(DatabaseDriver driver, QueryResultSchema schema, Object[] values) {
+        super(driver);
+        this.schema = schema;
+        this.values = values;
+    }
+
+    @Override
+    public QueryResultSchema getSchema() {
+        return schema;
+    }
+
+    @Override
+    public IndexCaseIntensiveMap<Object> asMap() {
+        IndexCaseIntensiveMap<Object> map = new IndexCaseIntensiveLinkedHashMap<>();
+        for (int i = 0; i < this.values.length; i++) {
+            map.put(this.schema.getName(i), this.values[i]);
+        }
+        return map;
+    }
+
+    @Override
+    public Object getObject(int index) {
+        return contains(index) ? this.values[index] : null;
+    }
+
+    @Override
+    public Object getObject(String key) {
+        int index = this.schema.indexOf(key);
+        return index != -1 ? this.values[index] : null;
+    }
+
+    @Override
+    public boolean contains(String key) {
+        return this.schema.indexOf(key) != -1;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return index >= 0 && index < this.values.length;
+    }
+}
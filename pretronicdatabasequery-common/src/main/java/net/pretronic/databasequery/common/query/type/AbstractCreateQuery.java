@@ -31,6 +31,7 @@ import net.pretronic.databasequery.api.query.type.CreateQuery;
 import net.pretronic.databasequery.api.query.type.FindQuery;
 import net.pretronic.libraries.utility.Validate;
 import net.pretronic.databasequery.common.collection.field.DefaultFieldBuilder;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
 import net.pretronic.databasequery.common.query.EntryOption;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
@@ -129,9 +130,7 @@ public abstract class AbstractCreateQuery<T extends Database> extends AbstractQu
 
     @Override
     public CompletableFuture<DatabaseCollection> createAsync() {
-        CompletableFuture<DatabaseCollection> future = new CompletableFuture<>();
-        future.complete(create());
-        return future;
+        return QueryExecutor.of(this.database.getDriver()).submit(this::create);
     }
 
     @Override
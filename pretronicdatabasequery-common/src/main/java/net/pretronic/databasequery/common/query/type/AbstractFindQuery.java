@@ -21,12 +21,17 @@ package net.pretronic.databasequery.common.query.type;
 
 import net.pretronic.databasequery.api.collection.DatabaseCollection;
 import net.pretronic.databasequery.api.query.Aggregation;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
 import net.pretronic.databasequery.api.query.type.FindQuery;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.query.result.QueryResultPublisher;
 import net.pretronic.libraries.utility.Validate;
 import net.pretronic.libraries.utility.map.Triple;
+import org.reactivestreams.Publisher;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public abstract class AbstractFindQuery<C extends DatabaseCollection> extends AbstractSearchQuery<FindQuery, C> implements FindQuery {
 
@@ -43,6 +48,7 @@ public abstract class AbstractFindQuery<C extends DatabaseCollection> extends Ab
             Triple<String, String, String> assignment = getAssignment(field);
             this.getEntries.add(new GetEntry(assignment.getFirst(), assignment.getSecond(), assignment.getThird(), null));
         }
+        this.modificationCount++;
         return this;
     }
 
@@ -51,9 +57,20 @@ public abstract class AbstractFindQuery<C extends DatabaseCollection> extends Ab
         Validate.notNull(aggregation, field);
         Triple<String, String, String> assignment = getAssignment(field);
         this.getEntries.add(new GetEntry(assignment.getFirst(), assignment.getSecond(), assignment.getThird(), aggregation));
+        this.modificationCount++;
         return this;
     }
 
+    @Override
+    public Stream<QueryResultEntry> stream(Object... values) {
+        return execute(values).stream();
+    }
+
+    @Override
+    public Publisher<QueryResultEntry> publish(Object... values) {
+        return new QueryResultPublisher(QueryExecutor.of(this.collection.getDatabase().getDriver()), demand -> stream(values));
+    }
+
     public static class GetEntry extends Entry {
 
         private final String database;
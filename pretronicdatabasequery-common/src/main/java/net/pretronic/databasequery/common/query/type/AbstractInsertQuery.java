@@ -27,7 +27,10 @@ import net.pretronic.databasequery.api.query.type.InsertQuery;
 import net.pretronic.libraries.utility.Iterators;
 import net.pretronic.libraries.utility.Validate;
 import net.pretronic.libraries.utility.annonations.Internal;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
 import net.pretronic.databasequery.common.query.EntryOption;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -39,6 +42,7 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
     protected final C collection;
     protected final List<Entry> entries;
     protected final List<FindQuery> queries;
+    protected int modificationCount;
 
     public AbstractInsertQuery(C collection) {
         super(collection.getDatabase().getDriver());
@@ -56,9 +60,10 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
     public InsertQuery set(String field, List<Object> values) {
         Entry entry = getEntry(field);
         if(entry == null){
-            entry = new Entry(field, values);
+            entry = new Entry(field, new ArrayList<>(values));
             this.entries.add(entry);
         }else entry.values.addAll(values);
+        this.modificationCount++;
         return this;
     }
 
@@ -72,6 +77,7 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
         for(String field : fields){
             if(getEntry(field) == null) this.entries.add(new Entry(field));
         }
+        this.modificationCount++;
         return this;
     }
 
@@ -79,12 +85,14 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
     public InsertQuery values(Object... values) {
         if(values.length != entries.size()) throw new IllegalArgumentException("Invalid values length.");
         for(int i = 0;i<values.length;i++) entries.get(i).values.add(values[i]);
+        this.modificationCount++;
         return this;
     }
 
     @Override
     public InsertQuery query(FindQuery query) {
         this.queries.add(query);
+        this.modificationCount++;
         return this;
     }
 
@@ -95,48 +103,36 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
 
     @Override
     public int executeAndGetGeneratedKeyAsInt(String keyColumn, Object... values) {
-        QueryResultEntry resultEntry = executeAndGetGeneratedKeys(keyColumn).firstOrNull();
+        QueryResultEntry resultEntry = executeAndGetGeneratedKeys(new String[]{keyColumn}, values).firstOrNull();
         Validate.notNull(resultEntry);
         return resultEntry.getInt(keyColumn);
     }
 
     @Override
     public long executeAndGetGeneratedKeyAsLong(String keyColumn, Object... values) {
-        QueryResultEntry resultEntry = executeAndGetGeneratedKeys(keyColumn).firstOrNull();
+        QueryResultEntry resultEntry = executeAndGetGeneratedKeys(new String[]{keyColumn}, values).firstOrNull();
         Validate.notNull(resultEntry);
         return resultEntry.getLong(keyColumn);
     }
 
     @Override
     public CompletableFuture<QueryResult> executeAsyncAndGetGeneratedKeys(String[] keyColumns, Object... values) {
-        CompletableFuture<QueryResult> future = new CompletableFuture<>();
-        this.collection.getDatabase().getDriver().getExecutorService().execute(()->
-                future.complete(executeAndGetGeneratedKeys(keyColumns, values)));
-        return future;
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> executeAndGetGeneratedKeys(keyColumns, values));
     }
 
     @Override
     public CompletableFuture<QueryResult> executeAsyncAndGetGeneratedKeys(String... keyColumns) {
-        CompletableFuture<QueryResult> future = new CompletableFuture<>();
-        this.collection.getDatabase().getDriver().getExecutorService().execute(()->
-                future.complete(executeAndGetGeneratedKeys(keyColumns)));
-        return future;
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> executeAndGetGeneratedKeys(keyColumns));
     }
 
     @Override
     public CompletableFuture<Integer> executeAsyncAndGetGeneratedKeyAsInt(String keyColumn, Object... values) {
-        CompletableFuture<Integer> future = new CompletableFuture<>();
-        this.collection.getDatabase().getDriver().getExecutorService().execute(()->
-                future.complete(executeAndGetGeneratedKeyAsInt(keyColumn, values)));
-        return future;
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> executeAndGetGeneratedKeyAsInt(keyColumn, values));
     }
 
     @Override
     public CompletableFuture<Long> executeAsyncAndGetGeneratedKeyAsLong(String keyColumn, Object... values) {
-        CompletableFuture<Long> future = new CompletableFuture<>();
-        this.collection.getDatabase().getDriver().getExecutorService().execute(()->
-                future.complete(executeAndGetGeneratedKeyAsLong(keyColumn, values)));
-        return future;
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> executeAndGetGeneratedKeyAsLong(keyColumn, values));
     }
 
     @Override
@@ -144,6 +140,33 @@ public abstract class AbstractInsertQuery<C extends DatabaseCollection> extends
         return executeAndGetGeneratedKeys(EMPTY_STRING_ARRAY, values);
     }
 
+    @Override
+    public QueryResult executeBatch(List<Object[]> values) {
+        return executeBatchAndGetGeneratedKeys(EMPTY_STRING_ARRAY, values);
+    }
+
+    @Override
+    public QueryResult executeBatchAndGetGeneratedKeys(String[] keyColumns, List<Object[]> values) {
+        int rows = 1;
+        for (Entry entry : this.entries) rows = Math.max(rows, entry.values.size());
+
+        DefaultQueryResult result = new DefaultQueryResult();
+        for (Object[] value : values) {
+            DefaultQueryResultEntry resultEntry = new DefaultQueryResultEntry(this.collection.getDatabase().getDriver());
+            resultEntry.addEntry(UPDATE_COUNT, rows);
+            for (QueryResultEntry keyEntry : executeAndGetGeneratedKeys(keyColumns, value)) {
+                keyEntry.asMap().forEach(resultEntry::addEntry);
+            }
+            result.addEntry(resultEntry);
+        }
+        return result;
+    }
+
+    @Internal
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
 
 
     @Internal
@@ -20,10 +20,15 @@
 package net.pretronic.databasequery.common.query.type;
 
 import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.query.BatchQuery;
 import net.pretronic.databasequery.api.query.Query;
 import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 import net.pretronic.libraries.logging.PretronicLogger;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 public abstract class AbstractQuery implements Query {
@@ -36,9 +41,24 @@ public abstract class AbstractQuery implements Query {
 
     @Override
     public CompletableFuture<QueryResult> executeAsync(Object... values) {
-        CompletableFuture<QueryResult> future = new CompletableFuture<>();
-        this.driver.getExecutorService().execute(()-> future.complete(execute(values)));
-        return future;
+        return QueryExecutor.of(this.driver).submit(() -> execute(values));
+    }
+
+    /*
+     * Default batch implementation, which executes the query for every value set. The update count is the amount of
+     * returned entries. Drivers with native batch support override this method.
+     */
+    public QueryResult executeBatch(List<Object[]> values) {
+        DefaultQueryResult result = new DefaultQueryResult();
+        for (Object[] value : values) {
+            QueryResult executionResult = execute(value);
+            result.addEntry(new DefaultQueryResultEntry(this.driver).addEntry(BatchQuery.UPDATE_COUNT, executionResult.size()));
+        }
+        return result;
+    }
+
+    public CompletableFuture<QueryResult> executeBatchAsync(List<Object[]> values) {
+        return QueryExecutor.of(this.driver).submit(() -> executeBatch(values));
     }
 
     public PretronicLogger getLogger() {
@@ -26,9 +26,11 @@ import net.pretronic.databasequery.api.query.SearchOrder;
 import net.pretronic.databasequery.api.query.type.FindQuery;
 import net.pretronic.databasequery.api.query.type.SearchQuery;
 import net.pretronic.databasequery.api.query.type.join.JoinType;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
 import net.pretronic.libraries.utility.GeneralUtil;
 import net.pretronic.libraries.utility.Iterators;
 import net.pretronic.libraries.utility.Validate;
+import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.libraries.utility.map.Triple;
 import net.pretronic.databasequery.common.query.EntryOption;
 
@@ -36,12 +38,14 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 public abstract class AbstractSearchQuery<T extends SearchQuery<T>, C extends DatabaseCollection> extends AbstractQuery implements SearchQuery<T> {
 
     protected final C collection;
     protected final List<Entry> entries;
+    protected int modificationCount;
 
     public AbstractSearchQuery(C collection) {
         super(collection.getDatabase().getDriver());
@@ -83,10 +87,26 @@ public abstract class AbstractSearchQuery<T extends SearchQuery<T>, C extends Da
         return addEntry(new OperationEntry(OperationEntry.Type.NOT, buildConditionEntry(ConditionEntry.Type.WHERE, field, value, aggregation)));
     }
 
-    //@Todo sql union implementation
+    @Override
+    public CompletableFuture<Long> countAsync(Object... values) {
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> count(values));
+    }
+
+    @Override
+    public CompletableFuture<Boolean> existsAsync(Object... values) {
+        return QueryExecutor.of(this.collection.getDatabase().getDriver()).submit(() -> exists(values));
+    }
+
     @Override
     public T union(SearchQuery<?> query) {
-        throw new UnsupportedOperationException();
+        Validate.notNull(query);
+        return addEntry(new UnionEntry(query, false));
+    }
+
+    @Override
+    public T unionAll(SearchQuery<?> query) {
+        Validate.notNull(query);
+        return addEntry(new UnionEntry(query, true));
     }
 
     @Override
@@ -312,6 +332,45 @@ public abstract class AbstractSearchQuery<T extends SearchQuery<T>, C extends Da
         return index(start, end);
     }
 
+    @Override
+    public T after(String field, Object lastValue) {
+        return after(new String[]{field}, new Object[]{lastValue});
+    }
+
+    @Override
+    public T after(String field) {
+        return after(field, EntryOption.PREPARED);
+    }
+
+    @Override
+    public T after(String[] fields, Object[] lastValues) {
+        return after(fields, lastValues, SearchOrder.ASC);
+    }
+
+    @Override
+    public T after(String field, Object lastValue, SearchOrder order) {
+        return after(new String[]{field}, new Object[]{lastValue}, order);
+    }
+
+    @Override
+    public T after(String[] fields, Object[] lastValues, SearchOrder order) {
+        Validate.notNull(fields, lastValues, order);
+        Validate.isTrue(fields.length > 0 && fields.length == lastValues.length, "Invalid amount of key fields or last values");
+        ConditionEntry.Type type = order == SearchOrder.ASC ? ConditionEntry.Type.WHERE_HIGHER : ConditionEntry.Type.WHERE_LOWER;
+        List<ConditionEntry> keys = new ArrayList<>(fields.length);
+        for (int i = 0; i < fields.length; i++) {
+            keys.add(buildConditionEntry(type, fields[i], lastValues[i], null));
+        }
+        return addEntry(new KeysetEntry(keys, order));
+    }
+
+    @Override
+    public T after(String[] fields) {
+        Object[] lastValues = new Object[fields.length];
+        Arrays.fill(lastValues, EntryOption.PREPARED);
+        return after(fields, lastValues);
+    }
+
     @Override
     public T orderBy(String field, SearchOrder order) {
         Validate.notNull(field, order);
@@ -374,12 +433,25 @@ public abstract class AbstractSearchQuery<T extends SearchQuery<T>, C extends Da
         Validate.notNull(joinEntry, "Wrong search query order for join");
         Validate.isTrue(!wrongJoinEntry.get(), "Wrong search query order for join");
         joinEntry.onEntries.add(new JoinOnEntry(collection1, column1, collection2, column2));
+        this.modificationCount++;
         return (T) this;
     }
 
+    /**
+     * The modification count changes every time the structure of this query changes. It is used by the
+     * implementations to detect if an already compiled query can be reused.
+     *
+     * @return the current modification count
+     */
+    @Internal
+    public int getModificationCount() {
+        return modificationCount;
+    }
+
     @SuppressWarnings("unchecked")
     protected T addEntry(Entry entry) {
         this.entries.add(entry);
+        this.modificationCount++;
         return (T) this;
     }
 
@@ -587,6 +659,51 @@ public abstract class AbstractSearchQuery<T extends SearchQuery<T>, C extends Da
         }
     }
 
+    /**
+     * Keyset pagination condition, the key entries are compared as one row and define the first order of the result in
+     * the direction of the pages.
+     */
+    public static class KeysetEntry extends Entry {
+
+        private final List<ConditionEntry> keys;
+        private final SearchOrder order;
+
+        public KeysetEntry(List<ConditionEntry> keys, SearchOrder order) {
+            this.keys = keys;
+            this.order = order;
+        }
+
+        public List<ConditionEntry> getKeys() {
+            return keys;
+        }
+
+        public SearchOrder getOrder() {
+            return order;
+        }
+    }
+
+    /**
+     * Combines the result with the result of another find query, the order and limit entries apply to the combined result.
+     */
+    public static class UnionEntry extends Entry {
+
+        private final SearchQuery<?> query;
+        private final boolean all;
+
+        public UnionEntry(SearchQuery<?> query, boolean all) {
+            this.query = query;
+            this.all = all;
+        }
+
+        public SearchQuery<?> getQuery() {
+            return query;
+        }
+
+        public boolean isAll() {
+            return all;
+        }
+    }
+
     public static class OrderByEntry extends Entry {
 
         private final String database;
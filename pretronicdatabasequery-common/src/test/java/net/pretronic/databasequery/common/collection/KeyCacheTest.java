@@ -0,0 +1,303 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 02:37
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.collection;
+
+import net.pretronic.databasequery.api.Database;
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.datatype.adapter.defaults.UUIDDataTypeAdapter;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.api.query.type.FindQuery;
+import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class KeyCacheTest {
+
+    private final List<List<Object>> queries = new ArrayList<>();
+    private final List<Object> storedKeys = new ArrayList<>(Arrays.asList(1L, 2L, 3L, 5L, 6L));
+    private Consumer<List<Object>> onQuery = keys -> {};
+    private Function<Object, Object> storedValue = key -> key;
+    private final QueuedQueryExecutor executor = new QueuedQueryExecutor();
+
+    private final KeyCache cache = new KeyCache(createCollection(), "id", KeyCache.DEFAULT_SIZE, KeyCache.DEFAULT_EXPIRE);
+
+    @Test
+    void keysAreLoadedWithOneQuery() {
+        Map<Object, QueryResultEntry> result = this.cache.getAll(Arrays.asList(1, 2, 3, 4), false).join();
+
+        assertEquals(Collections.singletonList(Arrays.asList(1, 2, 3, 4)), this.queries);
+        assertEquals(Arrays.asList(1, 2, 3), new ArrayList<>(result.keySet()));
+        assertEquals(2L, result.get(2).getObject("id"));
+    }
+
+    @Test
+    void loadedKeysAreCached() {
+        QueryResultEntry entry = this.cache.get(1, false).join();
+        assertNull(this.cache.get(4, false).join());
+
+        assertSame(entry, this.cache.get(1L, false).join());
+        assertNull(this.cache.get(4, false).join());
+        assertEquals(2, this.queries.size());
+    }
+
+    @Test
+    void keysRequestedDuringLoadAreBatchedOnExecutor() {
+        List<CompletableFuture<QueryResultEntry>> futures = requestDuringFirstLoad(5, 6, 1);
+
+        this.cache.get(1, false).join();
+
+        assertEquals(Collections.singletonList(Collections.singletonList(1)), this.queries);
+        assertTrue(futures.get(2).isDone());
+        assertFalse(futures.get(0).isDone());
+
+        this.executor.runAll();
+
+        assertEquals(Arrays.asList(Collections.singletonList(1), Arrays.asList(5, 6)), this.queries);
+        for (CompletableFuture<QueryResultEntry> future : futures) {
+            assertTrue(future.isDone());
+        }
+        assertEquals(6L, futures.get(1).join().getObject("id"));
+    }
+
+    @Test
+    void rejectedLoadsAreLoadedInCompletingThread() {
+        this.executor.rejecting = true;
+        List<CompletableFuture<QueryResultEntry>> futures = requestDuringFirstLoad(5, 6);
+
+        this.cache.get(1, false).join();
+
+        assertEquals(Arrays.asList(Collections.singletonList(1), Arrays.asList(5, 6)), this.queries);
+        assertEquals(5L, futures.get(0).join().getObject("id"));
+    }
+
+    @Test
+    void invalidateReloadsKeys() {
+        this.cache.get(1, false).join();
+        this.cache.invalidate();
+        this.cache.get(1, false).join();
+
+        assertEquals(2, this.queries.size());
+    }
+
+    @Test
+    void entriesLoadedBeforeInvalidationAreNotCached() {
+        this.onQuery = keys -> {
+            if(this.queries.size() == 1) this.cache.invalidate();
+        };
+
+        this.cache.get(1, false).join();
+        this.cache.get(1, false).join();
+
+        assertEquals(2, this.queries.size());
+    }
+
+    @Test
+    void failedLoadIsNotCached() {
+        this.onQuery = keys -> {
+            if(this.queries.size() == 1) throw new IllegalStateException("Database not available");
+        };
+
+        CompletableFuture<QueryResultEntry> failed = this.cache.get(1, false);
+        assertTrue(failed.isCompletedExceptionally());
+        assertThrows(Exception.class, failed::join);
+
+        assertEquals(1L, this.cache.get(1, false).join().getObject("id"));
+        assertEquals(2, this.queries.size());
+    }
+
+    @Test
+    void uuidKeysAreMatchedInTheirBoundForm() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        this.storedKeys.add(first);
+        this.storedValue = key -> key instanceof UUID ? new UUIDDataTypeAdapter().write((UUID) key) : key;
+
+        Map<Object, QueryResultEntry> result = this.cache.getAll(Arrays.asList(first, second), false).join();
+
+        assertEquals(Collections.singletonList(Arrays.asList(first, second)), this.queries);
+        assertEquals(Collections.singletonList(first), new ArrayList<>(result.keySet()));
+        assertSame(result.get(first), this.cache.get(UUID.fromString(first.toString()), false).join());
+        assertEquals(1, this.queries.size());
+    }
+
+    @Test
+    void stringKeysFallBackToCaseInsensitiveComparison() {
+        this.storedKeys.add("Name");
+        this.storedValue = key -> key instanceof String ? ((String) key).toLowerCase() : key;
+
+        QueryResultEntry entry = this.cache.get("Name", false).join();
+
+        assertEquals("name", entry.getObject("id"));
+    }
+
+    private List<CompletableFuture<QueryResultEntry>> requestDuringFirstLoad(Object... keys) {
+        List<CompletableFuture<QueryResultEntry>> futures = new ArrayList<>();
+        this.onQuery = queryKeys -> {
+            if(this.queries.size() == 1) {
+                for (Object key : keys) futures.add(this.cache.get(key, false));
+            }
+        };
+        return futures;
+    }
+
+    /*
+     * The collection only supports find().whereIn(field, keys).execute() and getDatabase(), every query is recorded.
+     * Integer keys are returned as long like from a bigint column.
+     */
+    private DatabaseCollection createCollection() {
+        FindQuery query = (FindQuery) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{FindQuery.class}, (proxy, method, args) -> {
+            if(method.getName().equals("whereIn")) {
+                List<Object> keys = new ArrayList<>(args[1] instanceof Collection ? (Collection<?>) args[1] : Arrays.asList((Object[]) args[1]));
+                this.queries.add(keys);
+                this.onQuery.accept(keys);
+                DefaultQueryResult result = new DefaultQueryResult();
+                for (Object key : keys) {
+                    Object stored = key instanceof Integer ? ((Integer) key).longValue() : key;
+                    if(this.storedKeys.contains(stored)) result.addEntry(new DefaultQueryResultEntry(null).addEntry("id", this.storedValue.apply(stored)));
+                }
+                return Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{FindQuery.class}, (executeProxy, executeMethod, executeArgs) -> {
+                    if(executeMethod.getName().equals("execute")) return result;
+                    throw new UnsupportedOperationException(executeMethod.getName());
+                });
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+        TestDriver driver = new TestDriver(this.executor);
+        Database database = (Database) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Database.class}, (proxy, method, args) -> {
+            if(method.getName().equals("getDriver")) return driver;
+            throw new UnsupportedOperationException(method.getName());
+        });
+        return (DatabaseCollection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{DatabaseCollection.class}, (proxy, method, args) -> {
+            if(method.getName().equals("find")) return query;
+            if(method.getName().equals("getDatabase")) return database;
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+
+    /*
+     * Provides the default data type adapters of a driver and the given query executor.
+     */
+    private static class TestDriver extends AbstractDatabaseDriver {
+
+        private final QueryExecutor executor;
+
+        private TestDriver(QueryExecutor executor) {
+            super("test", "test", null, null, null);
+            this.executor = executor;
+        }
+
+        @Override
+        protected QueryExecutor createQueryExecutor() {
+            return this.executor;
+        }
+
+        @Override
+        public Database getDatabase(String name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public boolean isConnected() {
+            return true;
+        }
+
+        @Override
+        public void connect() {
+        }
+
+        @Override
+        public void disconnect() {
+        }
+    }
+
+    /*
+     * Queues the operations until runAll is called, or rejects them like a full executor.
+     */
+    private static class QueuedQueryExecutor implements QueryExecutor {
+
+        private final List<Runnable> operations = new ArrayList<>();
+        private boolean rejecting;
+
+        @Override
+        public <T> CompletableFuture<T> submit(Callable<T> operation) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            if(this.rejecting) {
+                future.completeExceptionally(new RejectedExecutionException("Executor is full"));
+                return future;
+            }
+            this.operations.add(() -> {
+                try {
+                    future.complete(operation.call());
+                } catch (Throwable throwable) {
+                    future.completeExceptionally(throwable);
+                }
+            });
+            return future;
+        }
+
+        private void runAll() {
+            while (!this.operations.isEmpty()) {
+                this.operations.remove(0).run();
+            }
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return this.operations.size();
+        }
+
+        @Override
+        public long getAverageWaitTime() {
+            return 0;
+        }
+
+        @Override
+        public long getMaxWaitTime() {
+            return 0;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
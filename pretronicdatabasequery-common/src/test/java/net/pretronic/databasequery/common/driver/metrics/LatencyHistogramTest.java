@@ -0,0 +1,79 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 02:18
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.driver.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LatencyHistogramTest {
+
+    @Test
+    void emptyHistogramHasNoLatency() {
+        assertEquals(0, new LatencyHistogram().getPercentile(99));
+    }
+
+    @Test
+    void smallLatenciesAreExact() {
+        for (long micros = 0; micros < 32; micros++) {
+            LatencyHistogram histogram = new LatencyHistogram();
+            histogram.record(micros * 1000 + 999);
+            assertEquals(micros * 1000, histogram.getPercentile(100));
+        }
+    }
+
+    @Test
+    void bucketsHaveBoundedRelativeError() {
+        for (int bit = 5; bit < 40; bit++) {
+            long base = 1L << bit;
+            for (long micros : new long[]{base - 1, base, base + 1, base + base / 2, (base << 1) - 1}) {
+                LatencyHistogram histogram = new LatencyHistogram();
+                histogram.record(micros * 1000);
+                long highest = histogram.getPercentile(100) / 1000;
+                assertTrue(highest >= micros, "Bucket of " + micros + " ends at " + highest);
+                assertTrue(highest - micros <= micros / 16, "Bucket of " + micros + " ends at " + highest);
+            }
+        }
+    }
+
+    @Test
+    void percentileSelectsBucketOfRank() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int i = 0; i < 99; i++) histogram.record(10_000);
+        histogram.record(10_000_000);
+
+        assertEquals(10_000, histogram.getPercentile(0));
+        assertEquals(10_000, histogram.getPercentile(50));
+        assertEquals(10_000, histogram.getPercentile(99));
+        long highest = histogram.getPercentile(100);
+        assertTrue(highest >= 10_000_000 && highest <= 10_000_000 + 10_000_000 / 16);
+    }
+
+    @Test
+    void outOfRangeLatenciesAreClamped() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(100));
+
+        histogram.record(Long.MAX_VALUE);
+        assertEquals(((1L << 40) - 1) * 1000, histogram.getPercentile(100));
+    }
+}
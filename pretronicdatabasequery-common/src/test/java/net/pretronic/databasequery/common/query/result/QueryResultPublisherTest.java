@@ -0,0 +1,218 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 02:25
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.common.query.result;
+
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class QueryResultPublisherTest {
+
+    private final AtomicLong fetchSize = new AtomicLong(-1);
+    private final AtomicBoolean closed = new AtomicBoolean();
+
+    @Test
+    void streamIsOpenedWithFirstDemand() {
+        RecordingSubscriber subscriber = subscribe(5);
+        assertEquals(-1, this.fetchSize.get());
+
+        subscriber.subscription.request(2);
+
+        assertEquals(2, this.fetchSize.get());
+        assertEquals(2, subscriber.entries.size());
+        assertFalse(subscriber.completed);
+        assertFalse(this.closed.get());
+    }
+
+    @Test
+    void onlyRequestedEntriesAreEmitted() {
+        RecordingSubscriber subscriber = subscribe(5);
+
+        subscriber.subscription.request(2);
+        subscriber.subscription.request(2);
+        assertEquals(4, subscriber.entries.size());
+        assertFalse(subscriber.completed);
+
+        subscriber.subscription.request(10);
+        assertEquals(5, subscriber.entries.size());
+        assertTrue(subscriber.completed);
+        assertTrue(this.closed.get());
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    void unboundedDemandDoesNotOverflow() {
+        RecordingSubscriber subscriber = subscribe(3);
+
+        subscriber.subscription.request(Long.MAX_VALUE);
+        subscriber.subscription.request(1);
+
+        assertEquals(3, subscriber.entries.size());
+        assertTrue(subscriber.completed);
+    }
+
+    @Test
+    void cancelClosesStream() {
+        RecordingSubscriber subscriber = subscribe(5);
+
+        subscriber.subscription.request(1);
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+
+        assertEquals(1, subscriber.entries.size());
+        assertFalse(subscriber.completed);
+        assertTrue(this.closed.get());
+    }
+
+    @Test
+    void cancelInOnNextStopsEmission() {
+        RecordingSubscriber subscriber = subscribe(5);
+        subscriber.cancelAfter = 1;
+
+        subscriber.subscription.request(5);
+
+        assertEquals(1, subscriber.entries.size());
+        assertFalse(subscriber.completed);
+        assertTrue(this.closed.get());
+    }
+
+    @Test
+    void nonPositiveRequestSignalsError() {
+        RecordingSubscriber subscriber = subscribe(5);
+
+        subscriber.subscription.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertTrue(subscriber.entries.isEmpty());
+    }
+
+    @Test
+    void sourceFailureSignalsError() {
+        RuntimeException failure = new RuntimeException("Broken stream");
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new QueryResultPublisher(new DirectQueryExecutor(), demand -> {
+            throw failure;
+        }).subscribe(subscriber);
+
+        subscriber.subscription.request(1);
+
+        assertEquals(failure, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    void fetchSizeIsLimited() {
+        assertEquals(1, QueryResultPublisher.getFetchSize(0, 100));
+        assertEquals(10, QueryResultPublisher.getFetchSize(10, 100));
+        assertEquals(100, QueryResultPublisher.getFetchSize(Long.MAX_VALUE, 100));
+    }
+
+    private RecordingSubscriber subscribe(int size) {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        new QueryResultPublisher(new DirectQueryExecutor(), demand -> {
+            this.fetchSize.set(demand);
+            return IntStream.range(0, size)
+                    .mapToObj(i -> (QueryResultEntry) new DefaultQueryResultEntry(null).addEntry("id", i))
+                    .onClose(() -> this.closed.set(true));
+        }).subscribe(subscriber);
+        return subscriber;
+    }
+
+    private static class RecordingSubscriber implements Subscriber<QueryResultEntry> {
+
+        private final List<QueryResultEntry> entries = new ArrayList<>();
+        private Subscription subscription;
+        private Throwable error;
+        private boolean completed;
+        private int cancelAfter = -1;
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(QueryResultEntry entry) {
+            this.entries.add(entry);
+            if(this.entries.size() == this.cancelAfter) this.subscription.cancel();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            this.error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            this.completed = true;
+        }
+    }
+
+    /*
+     * Executes the operations in the calling thread, so the signals are emitted before request returns.
+     */
+    private static class DirectQueryExecutor implements QueryExecutor {
+
+        @Override
+        public <T> CompletableFuture<T> submit(Callable<T> operation) {
+            CompletableFuture<T> future = new CompletableFuture<>();
+            try {
+                future.complete(operation.call());
+            } catch (Throwable throwable) {
+                future.completeExceptionally(throwable);
+            }
+            return future;
+        }
+
+        @Override
+        public int getQueueDepth() {
+            return 0;
+        }
+
+        @Override
+        public long getAverageWaitTime() {
+            return 0;
+        }
+
+        @Override
+        public long getMaxWaitTime() {
+            return 0;
+        }
+
+        @Override
+        public void shutdown() {
+        }
+    }
+}
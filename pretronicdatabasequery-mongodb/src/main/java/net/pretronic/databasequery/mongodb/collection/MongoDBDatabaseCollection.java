@@ -21,6 +21,7 @@
 package net.pretronic.databasequery.mongodb.collection;
 
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Aggregates;
 import net.pretronic.databasequery.api.collection.AliasDatabaseCollection;
 import net.pretronic.databasequery.api.collection.DatabaseCollectionType;
 import net.pretronic.databasequery.api.collection.field.CollectionField;
@@ -28,11 +29,18 @@ import net.pretronic.databasequery.api.query.QueryGroup;
 import net.pretronic.databasequery.api.query.QueryTransaction;
 import net.pretronic.databasequery.api.query.type.*;
 import net.pretronic.databasequery.common.collection.AbstractDatabaseCollection;
+import net.pretronic.databasequery.common.query.type.AbstractSearchQuery;
 import net.pretronic.databasequery.mongodb.MongoDBDatabase;
 import net.pretronic.databasequery.mongodb.query.*;
+import net.pretronic.databasequery.mongodb.query.utils.BuildContext;
+import net.pretronic.databasequery.mongodb.query.utils.MongoDBQueryUtil;
+import net.pretronic.libraries.utility.annonations.Internal;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 public class MongoDBDatabaseCollection extends AbstractDatabaseCollection<MongoDBDatabase> {
 
@@ -48,6 +56,34 @@ public class MongoDBDatabaseCollection extends AbstractDatabaseCollection<MongoD
         return this.collection.countDocuments();
     }
 
+    @Override
+    public long getEstimatedSize() {
+        return this.collection.estimatedDocumentCount();
+    }
+
+    /*
+     * Invalidates the cached key entries of this collection, called after every write query.
+     */
+    @Internal
+    public void invalidateKeyCaches() {
+        getDatabase().invalidateKeyCaches(getName());
+    }
+
+    /*
+     * Counts the documents of the search pipeline on the server, a positive limit stops the count at the limit.
+     */
+    @Internal
+    public long count(List<AbstractSearchQuery.Entry> entries, int limit) {
+        BuildContext context = BuildContext.newContext(this);
+        MongoDBQueryUtil.buildEntries(context, entries);
+        List<Bson> pipeline = new ArrayList<>(context.getFindQuery());
+        if(limit > 0) pipeline.add(Aggregates.limit(limit));
+        pipeline.add(Aggregates.count("count"));
+
+        Document result = this.collection.aggregate(pipeline).first();
+        return result != null ? result.get("count", Number.class).longValue() : 0;
+    }
+
     @Override
     public InsertQuery insert() {
         return new MongoDBInsertQuery(this);
@@ -29,11 +29,13 @@ import com.mongodb.event.ServerMonitorListener;
 import net.pretronic.databasequery.api.Database;
 import net.pretronic.databasequery.api.driver.DatabaseDriverFactory;
 import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
 import net.pretronic.databasequery.mongodb.MongoDBDatabase;
 import net.pretronic.databasequery.mongodb.driver.config.MongoDBDatabaseDriverConfig;
 import net.pretronic.libraries.logging.PretronicLogger;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 
 public class MongoDBDatabaseDriver extends AbstractDatabaseDriver implements ServerMonitorListener {
 
@@ -60,12 +62,24 @@ public class MongoDBDatabaseDriver extends AbstractDatabaseDriver implements Ser
     @Override
     public void connect() {
         if(this.client != null) throw new IllegalArgumentException("Already connected");
-        this.client = new MongoClient(getConfig().getMongoClientURI(this));
+        this.client = new MongoClient(getConfig().getMongoClientURI(this, getQueryMetrics()));
     }
 
     @Override
     public void disconnect() {
+        closeWriteBuffers();
         this.client.close();
+        shutdownQueryExecutor();
+    }
+
+    @Override
+    public MongoDBQueryMetrics getQueryMetrics() {
+        return (MongoDBQueryMetrics) super.getQueryMetrics();
+    }
+
+    @Override
+    protected DefaultQueryMetrics createQueryMetrics() {
+        return new MongoDBQueryMetrics(this);
     }
 
     @Override
@@ -75,17 +89,21 @@ public class MongoDBDatabaseDriver extends AbstractDatabaseDriver implements Ser
 
     @Override
     public void serverHearbeatStarted(ServerHeartbeatStartedEvent event) {
-        System.out.println("started");
+        if(getLogger().isDebugging()) getLogger().debug("{} - Started heartbeat to mongodb server {}", getName(), event.getConnectionId().getServerId().getAddress());
     }
 
     @Override
     public void serverHeartbeatSucceeded(ServerHeartbeatSucceededEvent event) {
-        System.out.println("success");
+        if(getLogger().isDebugging()) {
+            getLogger().debug("{} - Heartbeat to mongodb server {} succeeded in {} ms", getName(), event.getConnectionId().getServerId().getAddress(),
+                    event.getElapsedTime(TimeUnit.MILLISECONDS));
+        }
     }
 
     @Override
     public void serverHeartbeatFailed(ServerHeartbeatFailedEvent event) {
-        System.out.println("failed");
+        getLogger().warn("{} - Heartbeat to mongodb server {} failed: {}", getName(), event.getConnectionId().getServerId().getAddress(),
+                event.getThrowable().getMessage());
     }
 
     public MongoClient getClient() {
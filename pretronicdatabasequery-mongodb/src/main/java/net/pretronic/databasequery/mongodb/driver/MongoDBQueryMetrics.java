@@ -0,0 +1,94 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 01:20
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+
+package net.pretronic.databasequery.mongodb.driver;
+
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryShapeMetrics;
+import net.pretronic.libraries.utility.annonations.Internal;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the commands of the mongo client as query shapes, the statement of a shape is the command name and the
+ * collection (e.g. "find users"). The connection wait time is not reported by the command events.
+ */
+@Internal
+public class MongoDBQueryMetrics extends DefaultQueryMetrics implements CommandListener {
+
+    private final ConcurrentMap<Integer, String> statements;
+
+    public MongoDBQueryMetrics(DatabaseDriver driver) {
+        super(driver, false);
+        this.statements = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        if(!isEnabled()) return;
+        BsonValue collection = event.getCommand().get(event.getCommandName());
+        String statement = collection != null && collection.isString()
+                ? event.getCommandName() + ' ' + collection.asString().getValue() : event.getCommandName();
+        this.statements.put(event.getRequestId(), statement);
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        String statement = this.statements.remove(event.getRequestId());
+        if(statement != null) {
+            getOrCreateShape(statement).recordExecution(event.getElapsedTime(TimeUnit.NANOSECONDS), getRows(event.getResponse()));
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        String statement = this.statements.remove(event.getRequestId());
+        if(statement != null) getOrCreateShape(statement).recordError();
+    }
+
+    @Override
+    protected DefaultQueryShapeMetrics createShape(String statement) {
+        int index = statement.indexOf(' ');
+        if(index == -1) return new DefaultQueryShapeMetrics(null, statement, statement);
+        return new DefaultQueryShapeMetrics(statement.substring(index + 1), statement.substring(0, index), statement);
+    }
+
+    /*
+     * Write commands return the affected documents, cursor commands only the documents of the current batch.
+     */
+    private static long getRows(BsonDocument response) {
+        if(response.isNumber("n")) return response.getNumber("n").longValue();
+        if(response.isDocument("cursor")) {
+            BsonDocument cursor = response.getDocument("cursor");
+            if(cursor.isArray("firstBatch")) return cursor.getArray("firstBatch").size();
+            if(cursor.isArray("nextBatch")) return cursor.getArray("nextBatch").size();
+        }
+        return 0;
+    }
+}
@@ -22,6 +22,7 @@ package net.pretronic.databasequery.mongodb.driver.config;
 
 import com.mongodb.MongoClientOptions;
 import com.mongodb.MongoClientURI;
+import com.mongodb.event.CommandListener;
 import com.mongodb.event.ServerMonitorListener;
 import net.pretronic.databasequery.api.driver.DatabaseDriver;
 import net.pretronic.databasequery.api.driver.config.RemoteDatabaseDriverConfig;
@@ -126,10 +127,9 @@ public class MongoDBDatabaseDriverConfig implements RemoteDatabaseDriverConfig<M
         throw new UnsupportedOperationException();
     }
 
-    public MongoClientURI getMongoClientURI(ServerMonitorListener monitorListener) {
-        String uri = buildMongoURI();
-        System.out.println(uri);
-        return new MongoClientURI(uri, new MongoClientOptions.Builder().addServerMonitorListener(monitorListener));
+    public MongoClientURI getMongoClientURI(ServerMonitorListener monitorListener, CommandListener commandListener) {
+        return new MongoClientURI(buildMongoURI(), new MongoClientOptions.Builder().addServerMonitorListener(monitorListener)
+                .addCommandListener(commandListener));
     }
 
     private String buildMongoURI() {
@@ -40,6 +40,16 @@ public class MongoDBDeleteQuery extends AbstractDeleteQuery<MongoDBDatabaseColle
         super(collection);
     }
 
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(this.entries, 0);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.count(this.entries, 1) > 0;
+    }
+
     @Override
     public QueryResult execute(Object... values) {
         BuildContext context = BuildContext.newContext(this.collection);
@@ -57,6 +67,7 @@ public class MongoDBDeleteQuery extends AbstractDeleteQuery<MongoDBDatabaseColle
 
             this.collection.getCollection().deleteOne(document);
         }
+        this.collection.invalidateKeyCaches();
         return result;
     }
 }
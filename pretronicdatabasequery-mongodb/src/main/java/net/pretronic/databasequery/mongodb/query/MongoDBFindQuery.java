@@ -22,71 +22,136 @@ package net.pretronic.databasequery.mongodb.query;
 
 import com.mongodb.Mongo;
 import com.mongodb.MongoClient;
+import com.mongodb.client.AggregateIterable;
 import com.mongodb.client.MongoCursor;
 import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
+import net.pretronic.databasequery.common.query.result.QueryResultPublisher;
 import net.pretronic.databasequery.common.query.type.AbstractFindQuery;
 import net.pretronic.databasequery.mongodb.collection.MongoDBDatabaseCollection;
 import net.pretronic.databasequery.mongodb.query.utils.BuildContext;
 import net.pretronic.databasequery.mongodb.query.utils.MongoDBQueryUtil;
+import net.pretronic.libraries.utility.annonations.Internal;
 import org.bson.BsonDocument;
 import org.bson.Document;
 import org.bson.conversions.Bson;
+import org.reactivestreams.Publisher;
 
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class MongoDBFindQuery extends AbstractFindQuery<MongoDBDatabaseCollection> {
 
+    private static final int MAX_PUBLISH_BATCH_SIZE = 1000;
+
     public MongoDBFindQuery(MongoDBDatabaseCollection collection) {
         super(collection);
     }
 
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(this.entries, 0);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.count(this.entries, 1) > 0;
+    }
+
     @Override
     public QueryResult execute(Object... values) {
+        DefaultQueryResult result = new DefaultQueryResult();
+        try(MongoCursor<Document> cursor = openCursor(0)) {
+            while(cursor.hasNext()) {
+                result.addEntry(toResultEntry(cursor.next()));
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Stream<QueryResultEntry> stream(Object... values) {
+        return stream(0);
+    }
+
+    @Override
+    public Publisher<QueryResultEntry> publish(Object... values) {
+        //The cursor fetches its batches with the size of the first demand
+        return new QueryResultPublisher(QueryExecutor.of(this.collection.getDatabase().getDriver()),
+                demand -> stream(QueryResultPublisher.getFetchSize(demand, MAX_PUBLISH_BATCH_SIZE)));
+    }
+
+    private Stream<QueryResultEntry> stream(int batchSize) {
+        MongoCursor<Document> cursor = openCursor(batchSize);
+        Iterator<QueryResultEntry> iterator = new Iterator<QueryResultEntry>() {
+            @Override
+            public boolean hasNext() {
+                return cursor.hasNext();
+            }
+
+            @Override
+            public QueryResultEntry next() {
+                return toResultEntry(cursor.next());
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(cursor::close);
+    }
+
+    @Internal
+    public MongoDBDatabaseCollection getCollection() {
+        return collection;
+    }
+
+    @Internal
+    public List<Bson> buildPipeline() {
         BuildContext context = BuildContext.newContext(this.collection);
         MongoDBQueryUtil.buildEntries(context, this.entries);
 
         MongoDBQueryUtil.printQuery(context);
+        return context.getFindQuery();
+    }
 
-        DefaultQueryResult result = new DefaultQueryResult();
-        MongoCursor<Document> cursor = collection.getCollection().aggregate(context.getFindQuery()).cursor();
-        while(cursor.hasNext()) {
+    private MongoCursor<Document> openCursor(int batchSize) {
+        AggregateIterable<Document> iterable = collection.getCollection().aggregate(buildPipeline());
+        if(batchSize > 0) iterable.batchSize(batchSize);
+        return iterable.cursor();
+    }
 
-            Document document = cursor.next();
-            DefaultQueryResultEntry resultEntry = new DefaultQueryResultEntry(collection.getDatabase().getDriver());
+    private QueryResultEntry toResultEntry(Document document) {
+        DefaultQueryResultEntry resultEntry = new DefaultQueryResultEntry(collection.getDatabase().getDriver());
+        if(getEntries.isEmpty()) {
             document.forEach((key, value)-> {
-
-            });
-            if(getEntries.isEmpty()) {
-                System.out.println("get entries empty");
-                document.forEach((key, value)-> {
-                    System.out.println(value.getClass());
-                    if(value instanceof ArrayList<?>) {
-                        List<Document> subResult = (List<Document>) value;
-                        if(!subResult.isEmpty()) {
-                            subResult.get(0).forEach((key0, value0)-> resultEntry.addEntry(key.substring(6)+"."+key0, value0));
-                        }
-                    } else {
-                        resultEntry.addEntry(key, value);
+                if(value instanceof ArrayList<?>) {
+                    List<Document> subResult = (List<Document>) value;
+                    if(!subResult.isEmpty()) {
+                        subResult.get(0).forEach((key0, value0)-> resultEntry.addEntry(key.substring(6)+"."+key0, value0));
                     }
-                });
-            } else {
-                for (GetEntry getEntry : getEntries) {
-                    if(getEntry.getDatabase() != null) throw new UnsupportedOperationException("MongoDB cross database entry getting is not possible");
-                    Object value;
-                    if(getEntry.getDatabaseCollection() != null) {
-                        Document subDocument = document.get("result"+getEntry.getDatabaseCollection(), Document.class);
-                        value = subDocument.get(getEntry.getField());
-                    } else {
-                        value = document.get(getEntry.getField());
-                    }
-                    resultEntry.addEntry(getEntry.getField(), value);
+                } else {
+                    resultEntry.addEntry(key, value);
+                }
+            });
+        } else {
+            for (GetEntry getEntry : getEntries) {
+                if(getEntry.getDatabase() != null) throw new UnsupportedOperationException("MongoDB cross database entry getting is not possible");
+                Object value;
+                if(getEntry.getDatabaseCollection() != null) {
+                    Document subDocument = document.get("result"+getEntry.getDatabaseCollection(), Document.class);
+                    value = subDocument.get(getEntry.getField());
+                } else {
+                    value = document.get(getEntry.getField());
                 }
+                resultEntry.addEntry(getEntry.getField(), value);
             }
-            result.addEntry(resultEntry);
         }
-        return result;
+        return resultEntry;
     }
 }
@@ -80,6 +80,7 @@ public class MongoDBInsertQuery extends AbstractInsertQuery<MongoDBDatabaseColle
         for (int i = 0; i < keyColumns.length; i++) {
             result.addEntry(new DefaultQueryResultEntry(this.collection.getDatabase().getDriver()).addEntry(keyColumns[i], keys.get(i)));
         }
+        this.collection.invalidateKeyCaches();
         return result;
     }
 
@@ -40,6 +40,16 @@ public class MongoDBReplaceQuery extends AbstractReplaceQuery<MongoDBDatabaseCol
         super(collection);
     }
 
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(this.entries, 0);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.count(this.entries, 1) > 0;
+    }
+
     @Override
     public QueryResult execute(Object... values) {
         BuildContext context = BuildContext.newContext(this.collection);
@@ -67,6 +77,7 @@ public class MongoDBReplaceQuery extends AbstractReplaceQuery<MongoDBDatabaseCol
             }
             this.collection.getCollection().replaceOne(document, update);
         }
+        this.collection.invalidateKeyCaches();
         return result;
     }
 }
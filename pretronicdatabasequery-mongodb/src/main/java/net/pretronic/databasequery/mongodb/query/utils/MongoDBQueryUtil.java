@@ -22,9 +22,12 @@ package net.pretronic.databasequery.mongodb.query.utils;
 
 import com.mongodb.MongoClient;
 import com.mongodb.client.model.*;
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
 import net.pretronic.databasequery.api.query.Aggregation;
 import net.pretronic.databasequery.api.query.SearchOrder;
+import net.pretronic.databasequery.api.query.type.FindQuery;
 import net.pretronic.databasequery.common.query.type.AbstractSearchQuery;
+import net.pretronic.databasequery.mongodb.query.MongoDBFindQuery;
 import net.pretronic.libraries.utility.StringUtil;
 import org.bson.*;
 import org.bson.conversions.Bson;
@@ -37,11 +40,51 @@ import java.util.List;
 public final class MongoDBQueryUtil {
 
     public static void buildEntries(BuildContext context, List<AbstractSearchQuery.Entry> entries) {
+        List<AbstractSearchQuery.UnionEntry> unions = new ArrayList<>();
+        List<AbstractSearchQuery.Entry> resultEntries = new ArrayList<>();
+        boolean keyset = false;
         for (AbstractSearchQuery.Entry entry : entries) {
+            if(entry instanceof AbstractSearchQuery.KeysetEntry) keyset = true;
+            if(entry instanceof AbstractSearchQuery.UnionEntry) {
+                unions.add((AbstractSearchQuery.UnionEntry) entry);
+            } else if(entry instanceof AbstractSearchQuery.OrderByEntry || entry instanceof AbstractSearchQuery.LimitEntry) {
+                resultEntries.add(entry);
+            } else {
+                buildEntry(context, entry);
+            }
+        }
+        if(keyset && !unions.isEmpty()) throw new IllegalArgumentException("Keyset pagination can't be combined with a union");
+        //The order and the limit apply to the combined result, if the query has unions
+        if(!unions.isEmpty()) buildUnionEntries(context, unions);
+        for (AbstractSearchQuery.Entry entry : resultEntries) {
             buildEntry(context, entry);
         }
     }
 
+    /*
+     * Appends the pipelines of the combined queries with $unionWith (MongoDB 4.4), duplicated documents are
+     * removed with a group on the whole document, if one union is not a union all.
+     */
+    public static void buildUnionEntries(BuildContext context, List<AbstractSearchQuery.UnionEntry> unions) {
+        boolean distinct = false;
+        for (AbstractSearchQuery.UnionEntry union : unions) {
+            if(!(union.getQuery() instanceof MongoDBFindQuery)) throw new IllegalArgumentException("Union is only supported for find queries");
+            MongoDBFindQuery query = (MongoDBFindQuery) union.getQuery();
+
+            List<BsonDocument> pipeline = new ArrayList<>();
+            for (Bson stage : query.buildPipeline()) {
+                pipeline.add(stage.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry()));
+            }
+            context.add(new Document("$unionWith", new Document("coll", query.getCollection().getName())
+                    .append("pipeline", pipeline)));
+            if(!union.isAll()) distinct = true;
+        }
+        if(distinct) {
+            context.add(Aggregates.group("$$ROOT"));
+            context.add(Aggregates.replaceRoot("$_id"));
+        }
+    }
+
     public static void buildEntry(BuildContext context, AbstractSearchQuery.Entry entry) {
         if(entry instanceof AbstractSearchQuery.ConditionEntry) {
             buildConditionEntry(context, (AbstractSearchQuery.ConditionEntry) entry);
@@ -55,6 +98,8 @@ public final class MongoDBQueryUtil {
             buildOrderByEntry(context, (AbstractSearchQuery.OrderByEntry) entry);
         } else if(entry instanceof AbstractSearchQuery.GroupByEntry) {
             buildGroupByEntry(context, (AbstractSearchQuery.GroupByEntry) entry);
+        } else if(entry instanceof AbstractSearchQuery.KeysetEntry) {
+            buildKeysetEntry(context, (AbstractSearchQuery.KeysetEntry) entry);
         }
     }
 
@@ -67,6 +112,7 @@ public final class MongoDBQueryUtil {
                 break;
             }
             case WHERE_IN: {
+                if(entry.getValue1() instanceof FindQuery) throw new UnsupportedOperationException("MongoDB doesn't support subqueries");
                 context.add(Aggregates.match(buildNegateConditionEntry(context.negate,
                         Filters.in(entry.getField(), (List<Object>) entry.getValue1()))));
                 break;
@@ -175,14 +221,43 @@ public final class MongoDBQueryUtil {
         }
     }
 
+    /*
+     * Expands (k1, k2) > (v1, v2) to k1 > v1 or (k1 = v1 and k2 > v2), or < for descending pages, followed by the
+     * sort on the key fields in the same direction.
+     */
+    public static void buildKeysetEntry(BuildContext context, AbstractSearchQuery.KeysetEntry entry) {
+        boolean ascending = entry.getOrder() == SearchOrder.ASC;
+        List<AbstractSearchQuery.ConditionEntry> keys = entry.getKeys();
+        List<Bson> alternatives = new ArrayList<>(keys.size());
+        List<Bson> sorts = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            List<Bson> filters = new ArrayList<>(i + 1);
+            for (int j = 0; j < i; j++) {
+                filters.add(Filters.eq(keys.get(j).getField(), keys.get(j).getValue1()));
+            }
+            String field = keys.get(i).getField();
+            filters.add(ascending ? Filters.gt(field, keys.get(i).getValue1()) : Filters.lt(field, keys.get(i).getValue1()));
+            alternatives.add(filters.size() == 1 ? filters.get(0) : Filters.and(filters));
+            sorts.add(ascending ? Sorts.ascending(field) : Sorts.descending(field));
+        }
+        context.add(Aggregates.match(alternatives.size() == 1 ? alternatives.get(0) : Filters.or(alternatives)));
+        context.add(Aggregates.sort(Sorts.orderBy(sorts)));
+    }
+
     public static void buildGroupByEntry(BuildContext context, AbstractSearchQuery.GroupByEntry entry) {
 
     }
 
 
+    /*
+     * Logs the stages of the built query, if the logger of the driver is debugging.
+     */
     public static void printQuery(BuildContext context) {
+        DatabaseDriver driver = context.collection.getDatabase().getDriver();
+        if(!driver.getLogger().isDebugging()) return;
         for (Bson bson : context.getFindQuery()) {
-            System.out.println(bson.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry()));
+            driver.getLogger().debug("{} - Built mongodb query stage: {}", driver.getName(),
+                    bson.toBsonDocument(BsonDocument.class, MongoClient.getDefaultCodecRegistry()));
         }
     }
 }
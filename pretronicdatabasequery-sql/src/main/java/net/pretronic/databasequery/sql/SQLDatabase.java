@@ -23,6 +23,7 @@ import net.pretronic.databasequery.api.collection.DatabaseCollection;
 import net.pretronic.databasequery.api.collection.DatabaseCollectionType;
 import net.pretronic.databasequery.api.exceptions.DatabaseQueryException;
 import net.pretronic.databasequery.api.exceptions.DatabaseQueryExecuteFailedException;
+import net.pretronic.databasequery.api.query.BatchQuery;
 import net.pretronic.databasequery.api.query.Query;
 import net.pretronic.databasequery.api.query.QueryGroup;
 import net.pretronic.databasequery.api.query.QueryTransaction;
@@ -31,7 +32,11 @@ import net.pretronic.databasequery.api.query.type.CreateQuery;
 import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.databasequery.common.AbstractDatabase;
 import net.pretronic.databasequery.common.DatabaseDriverEnvironment;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.databasequery.sql.dialect.SQLInsertQueryTemplate;
 import net.pretronic.databasequery.sql.driver.SQLDatabaseDriver;
 import net.pretronic.databasequery.sql.query.SQLQueryGroup;
 import net.pretronic.databasequery.sql.query.SQLQueryTransaction;
@@ -42,7 +47,12 @@ import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
 
@@ -53,6 +63,36 @@ public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
         this.dataSource = dataSource;
     }
 
+    @Override
+    protected int getKeyCacheSize() {
+        return getDriver().getConfig().getOptions().getKeyCacheSize();
+    }
+
+    @Override
+    protected long getKeyCacheExpire() {
+        return getDriver().getConfig().getOptions().getKeyCacheExpire();
+    }
+
+    @Override
+    protected int getUpdateBufferSize() {
+        return getDriver().getConfig().getOptions().getUpdateBufferSize();
+    }
+
+    @Override
+    protected long getUpdateBufferInterval() {
+        return getDriver().getConfig().getOptions().getUpdateBufferInterval();
+    }
+
+    @Override
+    protected int getInsertSinkCapacity() {
+        return getDriver().getConfig().getOptions().getInsertSinkCapacity();
+    }
+
+    @Override
+    protected long getInsertSinkMaxLatency() {
+        return getDriver().getConfig().getOptions().getInsertSinkMaxLatency();
+    }
+
     @Override
     public DatabaseCollection getCollection(String name) {
         return new SQLDatabaseCollection(name, this, DatabaseCollectionType.NORMAL);
@@ -85,7 +125,11 @@ public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
 
     @Override
     public QueryResult execute(Query... queries) {
-        return null;
+        QueryGroup group = group();
+        for (Query query : queries) {
+            group.add(query);
+        }
+        return group.execute();
     }
 
     public boolean isLocalConnected() {
@@ -104,16 +148,36 @@ public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
         return dataSource;
     }
 
+    /*
+     * Executes multiple statements on one borrowed connection, the query is only used for the error message.
+     */
+    @Internal
+    public <R> R executeWithConnection(String query, boolean commit, ConnectionFunction<R> function) {
+        try(Connection connection = getConnection(query)) {
+            try {
+                R result = function.apply(connection);
+                if(commit) connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            handleDatabaseQueryExecuteFailedException(exception, query);
+        }
+        return null;
+    }
+
     @Internal
     public <R> R executeResultQuery(String query, boolean commit, PreparedStatementConsumer preparedStatementConsumer, ResultSetFunction<R> resultSetFunction, Consumer<SQLException> exceptionConsumer) {
-        try(Connection connection = this.dataSource.getConnection()) {
-            try(PreparedStatement preparedStatement = connection.prepareStatement(query)) {
-                preparedStatementConsumer.accept(preparedStatement);
-                ResultSet resultSet = preparedStatement.executeQuery();
-                R result = resultSetFunction.apply(resultSet);
+        try(Connection connection = getConnection(query)) {
+            try {
+                R result = executeResultQuery(connection, query, preparedStatementConsumer, resultSetFunction);
                 if(commit) connection.commit();
-                if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql query: {}", getDriver().getName(), query);
                 return result;
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
             }
         } catch (SQLException exception) {
             exceptionConsumer.accept(exception);
@@ -127,33 +191,252 @@ public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
                 exception -> handleDatabaseQueryExecuteFailedException(exception, query));
     }
 
+    @Internal
+    public <R> R executeResultQuery(Connection connection, String query, PreparedStatementConsumer preparedStatementConsumer, ResultSetFunction<R> resultSetFunction) throws SQLException {
+        long start = startMeasurement();
+        try(PreparedStatement preparedStatement = connection.prepareStatement(query)) {
+            preparedStatementConsumer.accept(preparedStatement);
+            try(ResultSet resultSet = preparedStatement.executeQuery()) {
+                R result = resultSetFunction.apply(resultSet);
+                //Only query results are counted, other results (e.g. a count) are read from a single row
+                recordExecution(query, start, result instanceof QueryResult ? ((QueryResult) result).size() : 1);
+                if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql query: {}", getDriver().getName(), query);
+                return result;
+            }
+        } catch (SQLException | RuntimeException exception) {
+            recordError(query, start);
+            throw exception;
+        }
+    }
+
+    /*
+     * The returned stream owns the borrowed connection, it is released when the stream is closed or completely consumed.
+     */
+    @Internal
+    public <R> Stream<R> executeStreamQuery(String query, PreparedStatementConsumer preparedStatementConsumer, ResultSetFunction<R> rowFunction) {
+        return executeStreamQuery(query, preparedStatementConsumer, rowFunction, getDriver().getConfig().getOptions().getQueryFetchSize());
+    }
+
+    @Internal
+    public <R> Stream<R> executeStreamQuery(String query, PreparedStatementConsumer preparedStatementConsumer, ResultSetFunction<R> rowFunction, int fetchSize) {
+        Connection connection = null;
+        PreparedStatement preparedStatement = null;
+        long start = 0;
+        try {
+            connection = getConnection(query);
+            start = startMeasurement();
+            preparedStatement = connection.prepareStatement(query, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            if(fetchSize != 0) preparedStatement.setFetchSize(fetchSize);
+            preparedStatementConsumer.accept(preparedStatement);
+            ResultSet resultSet = preparedStatement.executeQuery();
+            //The rows are read lazily, the latency only contains the execution until the first rows are available
+            recordExecution(query, start, 0);
+            if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql stream query: {}", getDriver().getName(), query);
+
+            SQLResultSetIterator<R> iterator = new SQLResultSetIterator<>(connection, preparedStatement, resultSet, rowFunction, query);
+            return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                    .onClose(iterator::close);
+        } catch (SQLException exception) {
+            recordError(query, start);
+            try(Connection ignored = connection; PreparedStatement ignored1 = preparedStatement) {
+            } catch (SQLException ignored) {}
+            handleDatabaseQueryExecuteFailedException(exception, query);
+            return Stream.empty();
+        } catch (RuntimeException exception) {
+            //The iterator doesn't own the connection yet, it has to be closed here
+            recordError(query, start);
+            try(Connection ignored = connection; PreparedStatement ignored1 = preparedStatement) {
+            } catch (SQLException closeException) {
+                exception.addSuppressed(closeException);
+            }
+            throw exception;
+        }
+    }
+
     @Internal
     public Number[] executeUpdateQuery(String query, boolean commit, PreparedStatementConsumer preparedStatementConsumer, String[] keyColumns, Consumer<SQLException> exceptionConsumer) {
-        try(Connection connection = this.dataSource.getConnection()) {
-            try(PreparedStatement preparedStatement = setPrepareStatement(connection, query, keyColumns)) {
-                preparedStatementConsumer.accept(preparedStatement);
-                int affectedRows = preparedStatement.executeUpdate();
-                if(affectedRows != 0) {
-                    if(keyColumns != null && keyColumns.length > 0) {
-                        Number[] generatedKeys = new Number[keyColumns.length];
-                        try(ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
-                            if(resultSet.next()) {
-                                for (int i = 1; i <= keyColumns.length; i++) {
-                                    generatedKeys[i-1] = (Number) resultSet.getObject(i);
-                                }
-                            }
+        try(Connection connection = getConnection(query)) {
+            try {
+                Number[] generatedKeys = executeUpdateQuery(connection, query, preparedStatementConsumer, keyColumns);
+                if(commit) connection.commit();
+                return generatedKeys;
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            exceptionConsumer.accept(exception);
+        }
+        return new Number[0];
+    }
+
+    @Internal
+    public Number[] executeUpdateQuery(Connection connection, String query, PreparedStatementConsumer preparedStatementConsumer, String[] keyColumns) throws SQLException {
+        DefaultQueryResult result = new DefaultQueryResult();
+        executeUpdateQuery(connection, query, preparedStatementConsumer, keyColumns, result);
+        if(result.isEmpty()) return new Number[0];
+        Number[] generatedKeys = new Number[keyColumns.length];
+        for (int i = 0; i < keyColumns.length; i++) {
+            generatedKeys[i] = (Number) result.first().getObject(i);
+        }
+        return generatedKeys;
+    }
+
+    /*
+     * Adds one entry with the generated keys of every inserted row to the result.
+     */
+    @Internal
+    public int executeUpdateQuery(Connection connection, String query, PreparedStatementConsumer preparedStatementConsumer, String[] keyColumns, DefaultQueryResult result) throws SQLException {
+        long start = startMeasurement();
+        try(PreparedStatement preparedStatement = setPrepareStatement(connection, query, keyColumns)) {
+            preparedStatementConsumer.accept(preparedStatement);
+            int affectedRows = preparedStatement.executeUpdate();
+            recordExecution(query, start, affectedRows);
+            if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql query: {}", this.getDriver().getName(), query);
+            if(affectedRows != 0 && keyColumns != null && keyColumns.length > 0) {
+                try(ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                    while (resultSet.next()) {
+                        DefaultQueryResultEntry entry = new DefaultQueryResultEntry(getDriver());
+                        for (int i = 1; i <= keyColumns.length; i++) {
+                            entry.addEntry(keyColumns[i-1], resultSet.getObject(i));
                         }
-                        if(commit) connection.commit();
-                        return generatedKeys;
+                        result.addEntry(entry);
                     }
                 }
+            }
+            return affectedRows;
+        } catch (SQLException | RuntimeException exception) {
+            recordError(query, start);
+            throw exception;
+        }
+    }
+
+    @Internal
+    public QueryResult executeInsertQuery(SQLInsertQueryTemplate template, boolean commit, Object[] values, String[] keyColumns) {
+        DefaultQueryResult result = new DefaultQueryResult();
+        try(Connection connection = getConnection(template.getQuery())) {
+            try {
+                executeInsertQuery(connection, template, values, keyColumns, result);
                 if(commit) connection.commit();
-                if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql query: {}", this.getDriver().getName(), query);
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
             }
         } catch (SQLException exception) {
-            exceptionConsumer.accept(exception);
+            handleDatabaseQueryExecuteFailedException(exception, template.getQuery());
         }
-        return new Number[0];
+        return result;
+    }
+
+    /*
+     * Splits the rows into chunks, which don't exceed the row, parameter and packet size limits of the driver.
+     * The generated keys of all chunks are added in the order of the inserted rows.
+     */
+    @Internal
+    public void executeInsertQuery(Connection connection, SQLInsertQueryTemplate template, Object[] values, String[] keyColumns, DefaultQueryResult result) throws SQLException {
+        List<Object> preparedValues = template.bind(values);
+        if(template.getRowCount() == 1) {
+            executeUpdateQuery(connection, template.getQuery(), SQLUtil.getSelectConsumer(getDriver(), preparedValues), keyColumns, result);
+            return;
+        }
+        int fieldCount = template.getFieldCount();
+        int rowCount = template.getRowCount();
+        int maxRows = Math.max(1, Math.min(getDriver().getConfig().getOptions().getInsertChunkSize(), getDriver().getDialect().getMaxParameterCount() / fieldCount));
+        int maxPacketSize = getDriver().getConfig().getOptions().getMaxPacketSize();
+
+        int row = 0;
+        while (row < rowCount) {
+            int chunkEnd = row;
+            long chunkSize = 0;
+            while (chunkEnd < rowCount && chunkEnd - row < maxRows) {
+                long rowSize = estimateSize(preparedValues, chunkEnd * fieldCount, fieldCount);
+                if(chunkEnd > row && maxPacketSize > 0 && chunkSize + rowSize > maxPacketSize) break;
+                chunkSize += rowSize;
+                chunkEnd++;
+            }
+            List<Object> chunkValues = preparedValues.subList(row * fieldCount, chunkEnd * fieldCount);
+            executeUpdateQuery(connection, template.getQuery(chunkEnd - row), SQLUtil.getSelectConsumer(getDriver(), chunkValues), keyColumns, result);
+            row = chunkEnd;
+        }
+    }
+
+    private static long estimateSize(List<Object> values, int offset, int length) {
+        long size = 0;
+        for (int i = offset; i < offset + length; i++) {
+            Object value = values.get(i);
+            if(value instanceof CharSequence) size += ((CharSequence) value).length() * 4L;
+            else if(value instanceof byte[]) size += ((byte[]) value).length * 2L;
+            else size += 16;
+        }
+        return size;
+    }
+
+    @Internal
+    public QueryResult executeBatchQuery(String query, boolean commit, List<PreparedStatementConsumer> preparedStatementConsumers, String[] keyColumns) {
+        DefaultQueryResult result = new DefaultQueryResult();
+        try(Connection connection = getConnection(query)) {
+            try {
+                executeBatchQuery(connection, query, preparedStatementConsumers, keyColumns, result);
+                if(commit) connection.commit();
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            handleDatabaseQueryExecuteFailedException(exception, query);
+        }
+        return result;
+    }
+
+    @Internal
+    public void executeBatchQuery(Connection connection, String query, List<PreparedStatementConsumer> preparedStatementConsumers, String[] keyColumns, DefaultQueryResult result) throws SQLException {
+        long start = startMeasurement();
+        try(PreparedStatement preparedStatement = setPrepareStatement(connection, query, keyColumns)) {
+            int batchSize = getDriver().getConfig().getOptions().getQueryBatchSize();
+            int pending = 0;
+            long affectedRows = 0;
+            for (PreparedStatementConsumer consumer : preparedStatementConsumers) {
+                consumer.accept(preparedStatement);
+                preparedStatement.addBatch();
+                if(++pending >= batchSize) {
+                    affectedRows += executeBatch(preparedStatement, keyColumns, result);
+                    pending = 0;
+                }
+            }
+            if(pending > 0) affectedRows += executeBatch(preparedStatement, keyColumns, result);
+            recordExecution(query, start, affectedRows);
+            if(getLogger().isDebugging()) getLogger().debug("{} - Executed sql batch query ({} executions): {}", getDriver().getName(), preparedStatementConsumers.size(), query);
+        } catch (SQLException | RuntimeException exception) {
+            recordError(query, start);
+            throw exception;
+        }
+    }
+
+    /*
+     * Returns the amount of affected rows, executions with an unknown update count are not counted.
+     */
+    private long executeBatch(PreparedStatement preparedStatement, String[] keyColumns, DefaultQueryResult result) throws SQLException {
+        int offset = result.size();
+        long affectedRows = 0;
+        for (int updateCount : preparedStatement.executeBatch()) {
+            result.addEntry(new DefaultQueryResultEntry(getDriver()).addEntry(BatchQuery.UPDATE_COUNT, updateCount));
+            if(updateCount > 0) affectedRows += updateCount;
+        }
+        if(keyColumns != null && keyColumns.length > 0) {
+            try(ResultSet resultSet = preparedStatement.getGeneratedKeys()) {
+                int index = offset;
+                while (resultSet.next()) {
+                    //Skip executions without inserted rows, they don't have any generated keys
+                    while (index < result.size() && result.get(index).getInt(BatchQuery.UPDATE_COUNT) == 0) index++;
+                    if(index >= result.size()) break;
+                    DefaultQueryResultEntry entry = (DefaultQueryResultEntry) result.get(index++);
+                    for (int i = 1; i <= keyColumns.length; i++) {
+                        entry.addEntry(keyColumns[i-1], resultSet.getObject(i));
+                    }
+                }
+            }
+        }
+        return affectedRows;
     }
 
     private PreparedStatement setPrepareStatement(Connection connection, String query, String[] keyColumns) throws SQLException {
@@ -176,6 +459,39 @@ public class SQLDatabase extends AbstractDatabase<SQLDatabaseDriver> {
         executeUpdateQuery(sql, commit, ignored -> {});
     }
 
+    /*
+     * Borrows a connection, the wait time is recorded in the query metrics of the statement.
+     */
+    @Internal
+    public Connection getConnection(String query) throws SQLException {
+        DefaultQueryMetrics metrics = getDriver().getQueryMetrics();
+        if(!metrics.isEnabled()) return this.dataSource.getConnection();
+        long start = System.nanoTime();
+        try {
+            Connection connection = this.dataSource.getConnection();
+            metrics.getOrCreateShape(query).recordConnectionWait(System.nanoTime() - start);
+            return connection;
+        } catch (SQLException exception) {
+            metrics.getOrCreateShape(query).recordError();
+            throw exception;
+        }
+    }
+
+    /*
+     * Returns the start time of an execution or 0, if the query metrics are disabled.
+     */
+    private long startMeasurement() {
+        return getDriver().getQueryMetrics().isEnabled() ? System.nanoTime() : 0;
+    }
+
+    private void recordExecution(String query, long start, long rows) {
+        if(start != 0) getDriver().getQueryMetrics().getOrCreateShape(query).recordExecution(System.nanoTime() - start, rows);
+    }
+
+    private void recordError(String query, long start) {
+        if(start != 0) getDriver().getQueryMetrics().getOrCreateShape(query).recordError();
+    }
+
     @Internal
     public void handleDatabaseQueryExecuteFailedException(SQLException exception, String query) {
         throw new DatabaseQueryExecuteFailedException(String.format("%s - Error executing sql query: %s", getDriver().getName(), query)
@@ -0,0 +1,61 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 01:00
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryShapeMetrics;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+/**
+ * Resolves the type and the collection of a query shape from the compiled sql statement.
+ */
+@Internal
+public class SQLQueryMetrics extends DefaultQueryMetrics {
+
+    public SQLQueryMetrics(DatabaseDriver driver, boolean enabled) {
+        super(driver, enabled);
+    }
+
+    @Override
+    protected DefaultQueryShapeMetrics createShape(String statement) {
+        //Placeholder statements (e.g. query groups) have no type and collection
+        if(statement.startsWith("<")) return new DefaultQueryShapeMetrics(null, null, statement);
+        String[] tokens = statement.trim().split("\\s+");
+        String type = tokens[0].isEmpty() ? null : tokens[0].toUpperCase();
+        for (int i = 0; i < tokens.length - 1; i++) {
+            String token = tokens[i].toUpperCase();
+            if(token.equals("FROM") || token.equals("INTO") || token.equals("UPDATE") || token.equals("TABLE") || token.equals("EXISTS")) {
+                String name = tokens[i + 1];
+                //Skip derived tables, sub queries and the if of "IF NOT EXISTS"
+                if(name.startsWith("(") || name.equalsIgnoreCase("IF")) continue;
+                return new DefaultQueryShapeMetrics(getCollectionName(name), type, statement);
+            }
+        }
+        return new DefaultQueryShapeMetrics(null, type, statement);
+    }
+
+    private static String getCollectionName(String name) {
+        int end = name.indexOf('(');
+        if(end != -1) name = name.substring(0, end);
+        name = name.replace("`", "").replace("\"", "").replace("[", "").replace("]", "").replace(";", "");
+        return name.substring(name.lastIndexOf('.') + 1);
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 21:35
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql;
+
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
+import net.pretronic.databasequery.common.query.result.QueryResultSchema;
+import net.pretronic.databasequery.common.query.result.SchemaQueryResultEntry;
+import net.pretronic.libraries.utility.annonations.Internal;
+import net.pretronic.libraries.utility.map.IndexCaseIntensiveMap;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches the results of find queries by their compiled sql query and bound values. The least recently used
+ * results are evicted, if the cache is full or the result is expired.
+ *
+ * <p>Every collection has a version, which is increased by the write queries of the collection. Results are only
+ * returned for the version of their collection at the time the query was executed, a write while executing the
+ * query or after the execution invalidates the result.</p>
+ *
+ * <p>A cached result is shared by all callers of the query, neither the result nor its entries can be changed.</p>
+ */
+@Internal
+public class SQLResultCache {
+
+    private final int size;
+    private final long expire;
+    private final Map<Key, Entry> entries;
+    private final ConcurrentMap<String, AtomicLong> versions;
+    private final AtomicLong hits;
+    private final AtomicLong misses;
+    private final AtomicLong evictions;
+    private final AtomicLong invalidations;
+
+    public SQLResultCache(int size, long expire) {
+        this.size = size;
+        this.expire = expire;
+        this.entries = new EntryMap();
+        this.versions = new ConcurrentHashMap<>();
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.evictions = new AtomicLong();
+        this.invalidations = new AtomicLong();
+    }
+
+    public boolean isEnabled() {
+        return size > 0;
+    }
+
+    public int getSize() {
+        synchronized (this.entries) {
+            return this.entries.size();
+        }
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    public long getMisses() {
+        return misses.get();
+    }
+
+    public long getEvictions() {
+        return evictions.get();
+    }
+
+    public long getInvalidations() {
+        return invalidations.get();
+    }
+
+    public double getHitRatio() {
+        long hits = getHits();
+        long requests = hits + getMisses();
+        return requests == 0 ? 0 : (double) hits / requests;
+    }
+
+    /**
+     * @param collection of the query
+     * @return the version, which has to be passed to {@link #put(DatabaseCollection, long, String, List, QueryResult)}
+     */
+    public long getVersion(DatabaseCollection collection) {
+        AtomicLong version = this.versions.get(getCollectionKey(collection));
+        return version != null ? version.get() : 0;
+    }
+
+    /**
+     * @return the unmodifiable cached result with read only entries or null, if the result is not cached
+     */
+    public QueryResult get(DatabaseCollection collection, String query, List<Object> values) {
+        Key key = new Key(getCollectionKey(collection), query, values);
+        long version = getVersion(collection);
+        Entry entry;
+        synchronized (this.entries) {
+            entry = this.entries.get(key);
+            if(entry != null && (entry.version != version || entry.expireTime < System.currentTimeMillis())) {
+                this.entries.remove(key);
+                if(entry.version == version) this.evictions.incrementAndGet();
+                entry = null;
+            }
+        }
+        if(entry == null) {
+            this.misses.incrementAndGet();
+            return null;
+        }
+        this.hits.incrementAndGet();
+        return entry.result;
+    }
+
+    /**
+     * Caches an unmodifiable copy of the result, the same result is returned to all callers of the query. Modifiable
+     * entries are replaced by read only entries with the same values.
+     *
+     * @return the cached result, which has to be returned instead of the given result
+     */
+    public QueryResult put(DatabaseCollection collection, long version, String query, List<Object> values, QueryResult result) {
+        QueryResult cached = createSnapshot(collection, result);
+        //The collection was changed while executing the query
+        if(version != getVersion(collection)) return cached;
+        Entry entry = new Entry(version, System.currentTimeMillis() + this.expire, cached);
+        synchronized (this.entries) {
+            this.entries.put(new Key(getCollectionKey(collection), query, values), entry);
+        }
+        return cached;
+    }
+
+    public void invalidate(DatabaseCollection collection) {
+        if(!isEnabled()) return;
+        this.versions.computeIfAbsent(getCollectionKey(collection), key -> new AtomicLong()).incrementAndGet();
+        this.invalidations.incrementAndGet();
+    }
+
+    public void clear() {
+        synchronized (this.entries) {
+            this.entries.clear();
+        }
+    }
+
+    /*
+     * Default entries can be changed with addEntry, they are copied into schema entries. Consecutive entries with the
+     * same columns share one schema.
+     */
+    private static QueryResult createSnapshot(DatabaseCollection collection, QueryResult result) {
+        List<QueryResultEntry> entries = new ArrayList<>(result.size());
+        QueryResultSchema schema = null;
+        for (QueryResultEntry entry : result.asList()) {
+            if(entry instanceof DefaultQueryResultEntry) {
+                IndexCaseIntensiveMap<Object> map = entry.asMap();
+                String[] names = map.keySet().toArray(new String[0]);
+                if(schema == null || !hasNames(schema, names)) schema = new QueryResultSchema(names);
+                entry = new SchemaQueryResultEntry(collection.getDatabase().getDriver(), schema, map.values().toArray());
+            }
+            entries.add(entry);
+        }
+        return new DefaultQueryResult(Collections.unmodifiableList(entries));
+    }
+
+    private static boolean hasNames(QueryResultSchema schema, String[] names) {
+        if(schema.size() != names.length) return false;
+        for (int i = 0; i < names.length; i++) {
+            if(!schema.getName(i).equals(names[i])) return false;
+        }
+        return true;
+    }
+
+    private static String getCollectionKey(DatabaseCollection collection) {
+        return collection.getDatabase().getName() + '.' + collection.getName();
+    }
+
+    private static class Key {
+
+        private final String collection;
+        private final String query;
+        private final List<Object> values;
+        private final int hash;
+
+        private Key(String collection, String query, List<Object> values) {
+            this.collection = collection;
+            this.query = query;
+            this.values = values;
+            this.hash = 31 * (31 * collection.hashCode() + query.hashCode()) + values.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object object) {
+            if(this == object) return true;
+            if(!(object instanceof Key)) return false;
+            Key key = (Key) object;
+            return hash == key.hash && collection.equals(key.collection) && query.equals(key.query) && values.equals(key.values);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static class Entry {
+
+        private final long version;
+        private final long expireTime;
+        private final QueryResult result;
+
+        private Entry(long version, long expireTime, QueryResult result) {
+            this.version = version;
+            this.expireTime = expireTime;
+            this.result = result;
+        }
+    }
+
+    private class EntryMap extends LinkedHashMap<Key, Entry> {
+
+        private EntryMap() {
+            super(16, 0.75F, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+            if(size() > SQLResultCache.this.size) {
+                SQLResultCache.this.evictions.incrementAndGet();
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 19:05
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql;
+
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.common.query.result.ColumnarQueryResult;
+import net.pretronic.databasequery.common.query.result.QueryResultColumn;
+import net.pretronic.databasequery.common.query.result.QueryResultSchema;
+import net.pretronic.databasequery.common.query.result.SchemaQueryResultEntry;
+import net.pretronic.libraries.utility.annonations.Internal;
+import net.pretronic.libraries.utility.io.FileUtil;
+
+import java.sql.Clob;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Reads the rows of a result set. The schema is resolved once and shared by all entries.
+ * A reader instance belongs to one result set.
+ */
+@Internal
+public class SQLResultReader implements ResultSetFunction<QueryResultEntry> {
+
+    private final DatabaseDriver driver;
+    private final List<String> columns;
+
+    private QueryResultSchema schema;
+    private int[] columnIndexes;
+
+    /*
+     * If columns is empty, all columns of the result set are read.
+     */
+    public SQLResultReader(DatabaseDriver driver, List<String> columns) {
+        this.driver = driver;
+        this.columns = columns;
+    }
+
+    @Override
+    public QueryResultEntry apply(ResultSet resultSet) throws SQLException {
+        if(this.schema == null) loadSchema(resultSet);
+        Object[] values = new Object[this.columnIndexes.length];
+        for (int i = 0; i < this.columnIndexes.length; i++) {
+            values[i] = readValue(resultSet, this.columnIndexes[i]);
+        }
+        return new SchemaQueryResultEntry(this.driver, this.schema, values);
+    }
+
+    /*
+     * Reads all rows of the result set into columns, numeric columns are read with the primitive getters of the result set.
+     */
+    public QueryResult readResult(ResultSet resultSet) throws SQLException {
+        if(this.schema == null) loadSchema(resultSet);
+        ResultSetMetaData metaData = resultSet.getMetaData();
+        QueryResultColumn[] columns = new QueryResultColumn[this.columnIndexes.length];
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = newColumn(metaData.getColumnClassName(this.columnIndexes[i]));
+        }
+        ColumnarQueryResult result = new ColumnarQueryResult(this.driver, this.schema, columns);
+        while (resultSet.next()) {
+            for (int i = 0; i < columns.length; i++) {
+                int columnIndex = this.columnIndexes[i];
+                QueryResultColumn column = columns[i];
+                if(column instanceof QueryResultColumn.IntColumn) {
+                    int value = resultSet.getInt(columnIndex);
+                    ((QueryResultColumn.IntColumn) column).add(value, resultSet.wasNull());
+                } else if(column instanceof QueryResultColumn.LongColumn) {
+                    long value = resultSet.getLong(columnIndex);
+                    ((QueryResultColumn.LongColumn) column).add(value, resultSet.wasNull());
+                } else if(column instanceof QueryResultColumn.DoubleColumn) {
+                    double value = resultSet.getDouble(columnIndex);
+                    ((QueryResultColumn.DoubleColumn) column).add(value, resultSet.wasNull());
+                } else {
+                    ((QueryResultColumn.ObjectColumn) column).add(readValue(resultSet, columnIndex));
+                }
+            }
+            result.addRow();
+        }
+        return result;
+    }
+
+    protected QueryResultSchema getSchema() {
+        return schema;
+    }
+
+    protected int[] getColumnIndexes() {
+        return columnIndexes;
+    }
+
+    protected void loadSchema(ResultSet resultSet) throws SQLException {
+        String[] names;
+        if(this.columns.isEmpty()) {
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            names = new String[metaData.getColumnCount()];
+            this.columnIndexes = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                names[i] = metaData.getColumnName(i+1);
+                this.columnIndexes[i] = i+1;
+            }
+        } else {
+            names = this.columns.toArray(new String[0]);
+            this.columnIndexes = new int[names.length];
+            for (int i = 0; i < names.length; i++) {
+                this.columnIndexes[i] = resultSet.findColumn(names[i]);
+            }
+        }
+        this.schema = new QueryResultSchema(names);
+    }
+
+    protected QueryResultColumn newColumn(String className) {
+        if(Integer.class.getName().equals(className)) return new QueryResultColumn.IntColumn();
+        else if(Long.class.getName().equals(className)) return new QueryResultColumn.LongColumn();
+        else if(Double.class.getName().equals(className)) return new QueryResultColumn.DoubleColumn();
+        return new QueryResultColumn.ObjectColumn();
+    }
+
+    protected Object readValue(ResultSet resultSet, int columnIndex) throws SQLException {
+        Object value = resultSet.getObject(columnIndex);
+        if(value instanceof Clob) {
+            value = FileUtil.readContent(((Clob) value).getAsciiStream());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 18:10
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql;
+
+import net.pretronic.databasequery.api.exceptions.DatabaseQueryExecuteFailedException;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads the rows of an open result set lazily. The iterator owns the connection, the statement and the result set,
+ * all of them are closed as soon as the last row was read or the iterator is closed.
+ */
+@Internal
+public class SQLResultSetIterator<R> implements Iterator<R>, AutoCloseable {
+
+    private final Connection connection;
+    private final PreparedStatement statement;
+    private final ResultSet resultSet;
+    private final ResultSetFunction<R> rowFunction;
+    private final String query;
+
+    private boolean fetched;
+    private boolean available;
+    private boolean closed;
+
+    public SQLResultSetIterator(Connection connection, PreparedStatement statement, ResultSet resultSet, ResultSetFunction<R> rowFunction, String query) {
+        this.connection = connection;
+        this.statement = statement;
+        this.resultSet = resultSet;
+        this.rowFunction = rowFunction;
+        this.query = query;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if(this.closed) return false;
+        if(!this.fetched) {
+            try {
+                this.available = this.resultSet.next();
+            } catch (SQLException exception) {
+                close();
+                throw new DatabaseQueryExecuteFailedException("Error reading result of sql query: " + this.query, exception);
+            }
+            this.fetched = true;
+            if(!this.available) close();
+        }
+        return this.available;
+    }
+
+    @Override
+    public R next() {
+        if(!hasNext()) throw new NoSuchElementException();
+        this.fetched = false;
+        try {
+            return this.rowFunction.apply(this.resultSet);
+        } catch (SQLException exception) {
+            close();
+            throw new DatabaseQueryExecuteFailedException("Error reading result of sql query: " + this.query, exception);
+        }
+    }
+
+    @Override
+    public void close() {
+        if(this.closed) return;
+        this.closed = true;
+        this.available = false;
+        try(Connection ignored = this.connection; PreparedStatement ignored1 = this.statement; ResultSet ignored2 = this.resultSet) {
+        } catch (SQLException exception) {
+            throw new DatabaseQueryExecuteFailedException("Error closing result of sql query: " + this.query, exception);
+        }
+    }
+}
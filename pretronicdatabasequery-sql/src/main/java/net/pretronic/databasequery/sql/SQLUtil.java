@@ -21,19 +21,43 @@ package net.pretronic.databasequery.sql;
 
 import net.pretronic.databasequery.api.collection.DatabaseCollection;
 import net.pretronic.databasequery.api.datatype.adapter.DataTypeAdapter;
+import net.pretronic.databasequery.api.driver.DatabaseDriver;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
 import net.pretronic.libraries.utility.map.Pair;
 import net.pretronic.libraries.utility.reflect.Primitives;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
 
 public final class SQLUtil {
 
     public static PreparedStatementConsumer getSelectConsumer(DatabaseCollection collection, Pair<String, List<Object>> data) {
+        return getSelectConsumer(collection, data.getValue());
+    }
+
+    public static List<PreparedStatementConsumer> getBatchConsumers(DatabaseCollection collection, SQLQueryTemplate template, List<Object[]> values) {
+        List<PreparedStatementConsumer> consumers = new ArrayList<>(values.size());
+        for (Object[] value : values) {
+            if(!template.isCompatible(value)) {
+                throw new IllegalArgumentException("All value sets of a batch have to result in the same sql query");
+            }
+            consumers.add(getSelectConsumer(collection, template.bind(value)));
+        }
+        return consumers;
+    }
+
+    public static PreparedStatementConsumer getSelectConsumer(DatabaseCollection collection, List<Object> values) {
+        return getSelectConsumer(collection.getDatabase().getDriver(), values);
+    }
+
+    public static PreparedStatementConsumer getSelectConsumer(DatabaseDriver driver, List<Object> values) {
         return preparedStatement -> {
-            for (int i = 1; i <= data.getValue().size(); i++) {
-                Object value = data.getValue().get(i-1);
+            for (int i = 1; i <= values.size(); i++) {
+                Object value = values.get(i-1);
                 if(value != null && !Primitives.isPrimitive(value)) {
-                    DataTypeAdapter adapter = collection.getDatabase().getDriver().getDataTypeAdapter(value.getClass());
+                    DataTypeAdapter adapter = driver.getDataTypeAdapter(value.getClass());
                     if(adapter != null) {
                         value = adapter.write(value);
                     } else {
@@ -44,4 +68,16 @@ public final class SQLUtil {
             }
         };
     }
+
+    /*
+     * Rolls back the changes of a failed execution, a failed rollback (e.g. of a broken connection) is added to the
+     * original exception and doesn't replace it.
+     */
+    public static void rollback(Connection connection, Exception exception) {
+        try {
+            connection.rollback();
+        } catch (SQLException rollbackException) {
+            exception.addSuppressed(rollbackException);
+        }
+    }
 }
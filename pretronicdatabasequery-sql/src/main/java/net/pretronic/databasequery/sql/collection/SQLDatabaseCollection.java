@@ -26,12 +26,20 @@ import net.pretronic.databasequery.api.query.QueryGroup;
 import net.pretronic.databasequery.api.query.QueryTransaction;
 import net.pretronic.databasequery.api.query.type.*;
 import net.pretronic.databasequery.common.collection.AbstractDatabaseCollection;
+import net.pretronic.databasequery.common.query.type.AbstractFindQuery;
+import net.pretronic.databasequery.common.query.type.AbstractSearchQuery;
 import net.pretronic.databasequery.sql.SQLDatabase;
+import net.pretronic.databasequery.sql.SQLUtil;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
 import net.pretronic.databasequery.sql.query.SQLQueryGroup;
 import net.pretronic.databasequery.sql.query.SQLQueryTransaction;
 import net.pretronic.databasequery.sql.query.type.*;
+import net.pretronic.libraries.utility.annonations.Internal;
+import net.pretronic.libraries.utility.map.Pair;
 
 import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 
 public class SQLDatabaseCollection extends AbstractDatabaseCollection<SQLDatabase> {
 
@@ -41,7 +49,42 @@ public class SQLDatabaseCollection extends AbstractDatabaseCollection<SQLDatabas
 
     @Override
     public long getSize() {
-        return 0;
+        return count(Collections.emptyList(), Collections.emptyList(), new Object[0]);
+    }
+
+    @Override
+    public long getEstimatedSize() {
+        Pair<String, List<Object>> query = getDatabase().getDriver().getDialect().newEstimatedSizeQuery(this);
+        if(query == null) return getSize();
+        Long size = getDatabase().executeResultQuery(query.getKey(), true, SQLUtil.getSelectConsumer(this, query.getValue()),
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : null);
+        //The statistics of views and not yet analyzed tables are missing
+        return size != null ? size : getSize();
+    }
+
+    @Internal
+    public long count(List<AbstractFindQuery.GetEntry> getEntries, List<AbstractSearchQuery.Entry> entries, Object[] values) {
+        return executeCountQuery(getEntries, entries, false, values);
+    }
+
+    @Internal
+    public boolean exists(List<AbstractFindQuery.GetEntry> getEntries, List<AbstractSearchQuery.Entry> entries, Object[] values) {
+        return executeCountQuery(getEntries, entries, true, values) > 0;
+    }
+
+    /*
+     * Invalidates the cached find query results and key entries of this collection, called after every write query.
+     */
+    @Internal
+    public void invalidateCaches() {
+        getDatabase().getDriver().getResultCache().invalidate(this);
+        getDatabase().invalidateKeyCaches(getName());
+    }
+
+    private long executeCountQuery(List<AbstractFindQuery.GetEntry> getEntries, List<AbstractSearchQuery.Entry> entries, boolean exists, Object[] values) {
+        SQLQueryTemplate template = getDatabase().getDriver().getDialect().newCountQuery(this, getEntries, entries, exists, values);
+        return getDatabase().executeResultQuery(template.getQuery(), true, SQLUtil.getSelectConsumer(this, template.bind(values)),
+                resultSet -> resultSet.next() ? resultSet.getLong(1) : 0L);
     }
 
     @Override
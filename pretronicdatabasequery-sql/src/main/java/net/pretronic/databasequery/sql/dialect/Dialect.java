@@ -59,17 +59,43 @@ public interface Dialect extends ConnectionStringCreator {
 
     DatabaseDriverEnvironment getEnvironment();
 
+    /**
+     * @return the maximum amount of parameters in one prepared statement
+     */
+    int getMaxParameterCount();
+
     Pair<String, List<Object>> newCreateQuery(SQLDatabase database, List<AbstractCreateQuery.Entry> entries, String name, String engine, DatabaseCollectionType collectionType, FindQuery includingQuery, Object[] values);
 
-    Pair<String, List<Object>> newDeleteQuery(SQLDatabaseCollection collection, List<AbstractDeleteQuery.Entry> entries, Object[] values);
+    SQLQueryTemplate newDeleteQuery(SQLDatabaseCollection collection, List<AbstractDeleteQuery.Entry> entries, Object[] values);
+
+    SQLQueryTemplate newFindQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractFindQuery.Entry> entries, Object[] values);
+
+    SQLInsertQueryTemplate newInsertQuery(SQLDatabaseCollection collection, List<AbstractInsertQuery.Entry> entries, List<FindQuery> queries, Object[] values);
 
-    Pair<String, List<Object>> newFindQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractFindQuery.Entry> entries, Object[] values);
+    SQLInsertQueryTemplate newReplaceQuery(SQLDatabaseCollection collection, List<AbstractReplaceQuery.Entry> entries, Object[] values);
 
-    Pair<String, List<Object>> newInsertQuery(SQLDatabaseCollection collection, List<AbstractInsertQuery.Entry> entries, Object[] values);
+    SQLQueryTemplate newUpdateQuery(SQLDatabaseCollection collection, List<AbstractUpdateQuery.Entry> entries, Object[] values);
 
-    Pair<String, List<Object>> newReplaceQuery(SQLDatabaseCollection collection, List<AbstractReplaceQuery.Entry> entries, Object[] values);
+    /**
+     * Creates a query, which returns the amount of matching rows in its first column. Exists queries
+     * select at most one row, the count is then 0 or 1.
+     *
+     * @param collection to count
+     * @param getEntries of a find query, required to combine the result with unions
+     * @param entries of the search query, the changes of update and replace queries are skipped with their prepared values
+     * @param exists if only the existence of a row is checked
+     * @param values the values of Query#execute
+     * @return the compiled query
+     */
+    SQLQueryTemplate newCountQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractSearchQuery.Entry> entries, boolean exists, Object[] values);
 
-    Pair<String, List<Object>> newUpdateQuery(SQLDatabaseCollection collection, List<AbstractUpdateQuery.Entry> entries, Object[] values);
+    /**
+     * Creates a query, which returns the estimated amount of rows from the table statistics in its first column.
+     *
+     * @param collection to estimate
+     * @return the query with its values or null, if the database has no cheap estimate
+     */
+    Pair<String, List<Object>> newEstimatedSizeQuery(SQLDatabaseCollection collection);
 
 
 
@@ -0,0 +1,74 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 21:05
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.dialect;
+
+import java.util.List;
+
+/**
+ * A compiled multi-row insert query. The bound values are ordered by row, which allows to execute the insert
+ * in chunks of rows with the same row placeholders. The suffix follows the rows (e.g. the update part of an upsert).
+ */
+public class SQLInsertQueryTemplate extends SQLQueryTemplate {
+
+    private final String prefix;
+    private final String row;
+    private final String suffix;
+    private final int rowCount;
+    private final int fieldCount;
+
+    public SQLInsertQueryTemplate(String prefix, String row, String suffix, int rowCount, int fieldCount, List<Binding> bindings, int valueCount) {
+        super(buildQuery(prefix, row, suffix, rowCount), bindings, valueCount);
+        this.prefix = prefix;
+        this.row = row;
+        this.suffix = suffix;
+        this.rowCount = rowCount;
+        this.fieldCount = fieldCount;
+    }
+
+    public SQLInsertQueryTemplate(String prefix, String row, int rowCount, int fieldCount, List<Binding> bindings, int valueCount) {
+        this(prefix, row, "", rowCount, fieldCount, bindings, valueCount);
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getFieldCount() {
+        return fieldCount;
+    }
+
+    /**
+     * @param rowCount of the chunk
+     * @return the insert query for the given amount of rows
+     */
+    public String getQuery(int rowCount) {
+        if(rowCount == this.rowCount) return getQuery();
+        return buildQuery(this.prefix, this.row, this.suffix, rowCount);
+    }
+
+    private static String buildQuery(String prefix, String row, String suffix, int rowCount) {
+        StringBuilder queryBuilder = new StringBuilder(prefix.length() + (row.length() + 1) * rowCount + suffix.length() + 1).append(prefix);
+        for (int i = 0; i < rowCount; i++) {
+            if(i != 0) queryBuilder.append(",");
+            queryBuilder.append(row);
+        }
+        return queryBuilder.append(suffix).append(";").toString();
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 14:12
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.dialect;
+
+import net.pretronic.databasequery.api.query.PreparedValue;
+import net.pretronic.databasequery.common.query.type.AbstractSearchQuery;
+import net.pretronic.libraries.utility.map.Pair;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * A compiled sql query. The sql string is built once by the dialect, executing the query only has to bind
+ * the values to the parameters with the binding plan of this template.
+ *
+ * <p>A template can have one splittable list (a where in condition), large lists are then executed in chunks
+ * with the same query around the list placeholders, see {@link #split(Object[], int)}.</p>
+ */
+public class SQLQueryTemplate {
+
+    public static final int ANY_VALUE_COUNT = -1;
+
+    private final String query;
+    private final Binding[] bindings;
+    private final int valueCount;
+
+    private final String listPrefix;
+    private final String listSuffix;
+    private final int listBinding;
+    private List<SubQuery> subQueries;
+
+    public SQLQueryTemplate(String query, List<Binding> bindings, int valueCount) {
+        this.query = query;
+        this.bindings = bindings.toArray(new Binding[0]);
+        this.valueCount = valueCount;
+        this.listPrefix = null;
+        this.listSuffix = null;
+        this.listBinding = -1;
+        this.subQueries = Collections.emptyList();
+    }
+
+    /**
+     * Creates a template with a splittable list, the placeholders of the list are placed between the prefix and the suffix.
+     *
+     * @param listPrefix query before the list placeholders
+     * @param listSuffix query after the list placeholders
+     * @param listBinding index of the list binding in the bindings
+     * @param bindings of the query
+     */
+    public SQLQueryTemplate(String listPrefix, String listSuffix, int listBinding, List<Binding> bindings) {
+        this.query = listPrefix + buildPlaceholders(bindings.get(listBinding).size) + listSuffix;
+        this.bindings = bindings.toArray(new Binding[0]);
+        this.valueCount = ANY_VALUE_COUNT;
+        this.listPrefix = listPrefix;
+        this.listSuffix = listSuffix;
+        this.listBinding = listBinding;
+        this.subQueries = Collections.emptyList();
+    }
+
+    public SQLQueryTemplate(String query, List<Binding> bindings) {
+        this(query, bindings, ANY_VALUE_COUNT);
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Binding[] getBindings() {
+        return bindings;
+    }
+
+    public List<SubQuery> getSubQueries() {
+        return subQueries;
+    }
+
+    /**
+     * Sets the subqueries, which are rendered into this template. Has to be called before the template is cached.
+     *
+     * @param subQueries all nested subqueries with their modification count at build time
+     */
+    public void setSubQueries(List<SubQuery> subQueries) {
+        this.subQueries = subQueries.isEmpty() ? Collections.emptyList() : new ArrayList<>(subQueries);
+    }
+
+    /**
+     * @return if no subquery of this template was modified since the template was built
+     */
+    public boolean isCurrent() {
+        for (SubQuery subQuery : this.subQueries) {
+            if(subQuery.query.getModificationCount() != subQuery.modificationCount) return false;
+        }
+        return true;
+    }
+
+    /**
+     * @return the amount of prepared values, which are consumed by this template
+     */
+    public int getPreparedValueCount() {
+        int count = 0;
+        for (Binding binding : this.bindings) {
+            if(!binding.isConstant()) count = Math.max(count, binding.index + 1);
+        }
+        return count;
+    }
+
+    /**
+     * Checks if this template can be used for the given values. A template is not compatible, if a prepared
+     * value was expanded to a different amount of parameters while compiling (e.g. a where in condition).
+     *
+     * @param values the values of Query#execute
+     * @return if the values can be bound to this template
+     */
+    public boolean isCompatible(Object[] values) {
+        if(this.valueCount != ANY_VALUE_COUNT && this.valueCount != values.length) return false;
+        for (Binding binding : this.bindings) {
+            if(binding.size != Binding.ANY_SIZE && !binding.isConstant()) {
+                if(binding.index >= values.length) return false;
+                int size = getSize(values[binding.index]);
+                if((binding.padded ? getPaddedSize(size) : size) != binding.size) return false;
+            }
+        }
+        return true;
+    }
+
+    public List<Object> bind(Object[] values) {
+        return bind(values, -1, null);
+    }
+
+    private List<Object> bind(Object[] values, int listBinding, List<?> list) {
+        List<Object> preparedValues = new ArrayList<>(this.bindings.length);
+        for (int i = 0; i < this.bindings.length; i++) {
+            Binding binding = this.bindings[i];
+            if(i == listBinding) {
+                addPadded(preparedValues, list, getPaddedSize(list.size()));
+            } else if(binding.padded) {
+                addPadded(preparedValues, getList(binding, values), binding.size);
+            } else if(binding.isConstant()) {
+                preparedValues.add(binding.value);
+            } else if(values.length > binding.index) {
+                Object value = values[binding.index];
+                if(!binding.expand) preparedValues.add(value);
+                else if(value instanceof PreparedValue) preparedValues.addAll(((PreparedValue) value).getValues());
+                else if(value instanceof Collection<?>) preparedValues.addAll((Collection<?>) value);
+                else preparedValues.add(value);
+            } else {
+                throw new IllegalArgumentException("No prepared value in Query#execute");
+            }
+        }
+        return preparedValues;
+    }
+
+    public Pair<String, List<Object>> toPair(Object[] values) {
+        return new Pair<>(this.query, bind(values));
+    }
+
+    /**
+     * @param values the values of Query#execute
+     * @param chunkSize maximum amount of list entries in one query, a negative size disables splitting
+     * @return if the splittable list of this template has to be executed in chunks
+     */
+    public boolean isSplittable(Object[] values, int chunkSize) {
+        return this.listBinding != -1 && chunkSize > 0 && getList(this.bindings[this.listBinding], values).size() > chunkSize;
+    }
+
+    /**
+     * Splits the list into chunks, duplicated list entries are removed so every row is only matched by one chunk.
+     *
+     * @param values the values of Query#execute
+     * @param chunkSize maximum amount of list entries in one query
+     * @return the query and the bound values of every chunk
+     */
+    public List<Pair<String, List<Object>>> split(Object[] values, int chunkSize) {
+        List<?> list = new ArrayList<>(new LinkedHashSet<>(getList(this.bindings[this.listBinding], values)));
+        List<Pair<String, List<Object>>> chunks = new ArrayList<>(list.size() / chunkSize + 1);
+        for (int start = 0; start < list.size(); start += chunkSize) {
+            List<?> chunk = list.subList(start, Math.min(list.size(), start + chunkSize));
+            String query = this.listPrefix + buildPlaceholders(getPaddedSize(chunk.size())) + this.listSuffix;
+            chunks.add(new Pair<>(query, bind(values, this.listBinding, chunk)));
+        }
+        return chunks;
+    }
+
+    private List<?> getList(Binding binding, Object[] values) {
+        Object value;
+        if(binding.isConstant()) {
+            value = binding.value;
+        } else if(values.length > binding.index) {
+            value = values[binding.index];
+        } else {
+            throw new IllegalArgumentException("No prepared value in Query#execute");
+        }
+        if(value instanceof PreparedValue) return ((PreparedValue) value).getValues();
+        else if(value instanceof List<?>) return (List<?>) value;
+        else if(value instanceof Collection<?>) return new ArrayList<>((Collection<?>) value);
+        return Collections.singletonList(value);
+    }
+
+    /*
+     * Pads the list with its last entry, duplicated entries don't change the result of a where in condition.
+     */
+    private static void addPadded(List<Object> preparedValues, List<?> list, int size) {
+        preparedValues.addAll(list);
+        for (int i = list.size(); i < size; i++) preparedValues.add(list.get(list.size() - 1));
+    }
+
+    /**
+     * Rounds the size of a list up to the next power of two, so lists with different sizes share the same query.
+     *
+     * @param size of the list
+     * @return the amount of placeholders for the list
+     */
+    public static int getPaddedSize(int size) {
+        if(size <= 1) return size;
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+
+    public static String buildPlaceholders(int size) {
+        StringBuilder builder = new StringBuilder(size * 2);
+        for (int i = 0; i < size; i++) {
+            if(i > 0) builder.append(",");
+            builder.append("?");
+        }
+        return builder.toString();
+    }
+
+    public static int getSize(Object value) {
+        if(value instanceof PreparedValue) return ((PreparedValue) value).getValues().size();
+        else if(value instanceof Collection<?>) return ((Collection<?>) value).size();
+        return 1;
+    }
+
+    /**
+     * A query, which is rendered as subquery into a template, with its modification count at build time.
+     */
+    public static class SubQuery {
+
+        private final AbstractSearchQuery<?, ?> query;
+        private final int modificationCount;
+
+        public SubQuery(AbstractSearchQuery<?, ?> query, int modificationCount) {
+            this.query = query;
+            this.modificationCount = modificationCount;
+        }
+
+        public AbstractSearchQuery<?, ?> getQuery() {
+            return query;
+        }
+
+        public int getModificationCount() {
+            return modificationCount;
+        }
+    }
+
+    public static class Binding {
+
+        public static final int ANY_SIZE = -1;
+
+        private final int index;
+        private final int size;
+        private final Object value;
+        private final boolean expand;
+        private final boolean padded;
+
+        private Binding(int index, int size, Object value, boolean expand, boolean padded) {
+            this.index = index;
+            this.size = size;
+            this.value = value;
+            this.expand = expand;
+            this.padded = padded;
+        }
+
+        private Binding(int index, int size, Object value, boolean expand) {
+            this(index, size, value, expand, false);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public int getSize() {
+            return size;
+        }
+
+        public Object getValue() {
+            return value;
+        }
+
+        public boolean isConstant() {
+            return index == -1;
+        }
+
+        public boolean isExpand() {
+            return expand;
+        }
+
+        public boolean isPadded() {
+            return padded;
+        }
+
+        /*
+         * Moves the binding behind the given amount of prepared values, used to merge the bindings of a subquery.
+         */
+        public Binding shift(int offset) {
+            if(isConstant() || offset == 0) return this;
+            return new Binding(this.index + offset, this.size, this.value, this.expand, this.padded);
+        }
+
+        public static Binding constant(Object value) {
+            return new Binding(-1, ANY_SIZE, value, false);
+        }
+
+        /*
+         * Binds the prepared value, collections and prepared values are expanded to multiple parameters.
+         */
+        public static Binding prepared(int index) {
+            return new Binding(index, ANY_SIZE, null, true);
+        }
+
+        /*
+         * Binds the prepared value, the template is only compatible if the prepared value is expanded to the same size.
+         */
+        public static Binding expanded(int index, int size) {
+            return new Binding(index, size, null, true);
+        }
+
+        /*
+         * Binds the prepared list padded to the given size, the template is only compatible if the list has the same padded size.
+         */
+        public static Binding list(int index, int size) {
+            return new Binding(index, size, null, true, true);
+        }
+
+        /*
+         * Binds the constant list padded to the given size. The values are copied, later changes of the collection
+         * don't change the placeholder count of the cached template.
+         */
+        public static Binding constantList(Collection<?> values, int size) {
+            return new Binding(-1, size, Collections.unmodifiableList(new ArrayList<>(values)), true, true);
+        }
+
+        /*
+         * Binds the prepared value as single parameter without any expansion.
+         */
+        public static Binding single(int index) {
+            return new Binding(index, ANY_SIZE, null, false);
+        }
+    }
+}
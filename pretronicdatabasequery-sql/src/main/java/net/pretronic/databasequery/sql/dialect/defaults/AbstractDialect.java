@@ -25,7 +25,7 @@ import net.pretronic.databasequery.api.driver.DatabaseDriverFactory;
 import net.pretronic.databasequery.api.exceptions.DatabaseQueryException;
 import net.pretronic.databasequery.api.query.Aggregation;
 import net.pretronic.databasequery.api.query.ForeignKey;
-import net.pretronic.databasequery.api.query.PreparedValue;
+import net.pretronic.databasequery.api.query.SearchOrder;
 import net.pretronic.databasequery.api.query.type.FindQuery;
 import net.pretronic.databasequery.sql.driver.SQLDatabaseDriver;
 import net.pretronic.libraries.utility.map.Pair;
@@ -36,16 +36,23 @@ import net.pretronic.databasequery.sql.DataTypeInfo;
 import net.pretronic.databasequery.sql.SQLDatabase;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
 import net.pretronic.databasequery.sql.dialect.Dialect;
+import net.pretronic.databasequery.sql.dialect.SQLInsertQueryTemplate;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
+import net.pretronic.databasequery.sql.query.type.SQLFindQuery;
 
 import java.sql.Driver;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class AbstractDialect implements Dialect {
 
+    //MySQL and MariaDB don't allow more placeholders in one prepared statement
+    private static final int MAX_PARAMETER_COUNT = 65535;
+    private static final String LIST_MARKER = "\u0000";
+
     private final String name;
     private final String driverName;
     private Class<? extends Driver> driver;
@@ -108,6 +115,11 @@ public abstract class AbstractDialect implements Dialect {
     }
 
 
+    @Override
+    public int getMaxParameterCount() {
+        return MAX_PARAMETER_COUNT;
+    }
+
     @Override
     public Pair<String, List<Object>> newCreateQuery(SQLDatabase database, List<AbstractCreateQuery.Entry> entries, String name, String engine, DatabaseCollectionType collectionType, FindQuery includingQuery, Object[] values) {
         List<Object> preparedValues = new ArrayList<>();
@@ -206,58 +218,111 @@ public abstract class AbstractDialect implements Dialect {
 
 
     @Override
-    public Pair<String, List<Object>> newInsertQuery(SQLDatabaseCollection collection, List<AbstractInsertQuery.Entry> entries, Object[] values) {
-        List<Object> preparedValues = new ArrayList<>();
-
+    public SQLInsertQueryTemplate newInsertQuery(SQLDatabaseCollection collection, List<AbstractInsertQuery.Entry> entries, List<FindQuery> queries, Object[] values) {
         StringBuilder queryBuilder = new StringBuilder().append("INSERT INTO `");
         if(this.environment == DatabaseDriverEnvironment.REMOTE) {
             queryBuilder.append(collection.getDatabase().getName()).append("`.`");
         }
         queryBuilder.append(collection.getName()).append("` ");
-
-        AtomicInteger preparedValuesCount = new AtomicInteger();
+        if(!queries.isEmpty()) return buildInsertSelectQuery(queryBuilder, entries, queries, values);
+        if(entries.isEmpty()) throw new IllegalArgumentException("Insert query has no fields");
 
         int fieldCount = entries.size();
-        AtomicInteger valueCount = new AtomicInteger(values.length);
+        int rowCount = 0;
+        for (AbstractInsertQuery.Entry entry : entries) {
+            rowCount = Math.max(rowCount, entry.getValues().size());
+        }
 
-        buildInsertQueryFieldsPart(entries, queryBuilder, preparedValuesCount, valueCount, preparedValues, values);
+        int valueCount = SQLQueryTemplate.ANY_VALUE_COUNT;
+        if(rowCount == 0) {
+            if(values.length % fieldCount != 0) throw new IllegalArgumentException("Invalid values length.");
+            rowCount = Math.max(1, values.length/fieldCount);
+            valueCount = values.length;
+        }
 
-        int valuesPerField = valueCount.get()/fieldCount;
+        buildInsertQueryFieldsPart(entries, queryBuilder);
+        queryBuilder.append(" VALUES ");
 
-        queryBuilder.append(")");
+        StringBuilder rowBuilder = new StringBuilder("(");
+        for (int i = 0; i < fieldCount; i++) {
+            if(i != 0) rowBuilder.append(",");
+            rowBuilder.append("?");
+        }
+        rowBuilder.append(")");
+
+        List<SQLQueryTemplate.Binding> bindings = new ArrayList<>();
+        int preparedValuesCount = 0;
+        for (int row = 0; row < rowCount; row++) {
+            for (int i = 0; i < fieldCount; i++) {
+                List<Object> entryValues = entries.get(i).getValues();
+                Object value = row < entryValues.size() ? entryValues.get(row) : EntryOption.PREPARED;
+                if(value == EntryOption.PREPARED) bindings.add(SQLQueryTemplate.Binding.single(preparedValuesCount++));
+                else bindings.add(SQLQueryTemplate.Binding.constant(value));
+            }
+        }
+        return new SQLInsertQueryTemplate(queryBuilder.toString(), rowBuilder.toString(), rowCount, fieldCount, bindings, valueCount);
+    }
 
-        for (int i = 0; i < valuesPerField; i++) {
-            if(i == 0) queryBuilder.append(" VALUES (");
-            else queryBuilder.append(",(");
-            for (int i1 = 0; i1 < fieldCount; i1++) {
-                if(i1 != 0) {
-                    queryBuilder.append(",");
-                }
-                queryBuilder.append("?");
+    /*
+     * The rows of all queries are inserted with INSERT INTO ... SELECT ... UNION ALL SELECT ..., the template is executed as one row.
+     */
+    private SQLInsertQueryTemplate buildInsertSelectQuery(StringBuilder queryBuilder, List<AbstractInsertQuery.Entry> entries, List<FindQuery> queries, Object[] values) {
+        if(!entries.isEmpty()) {
+            for (AbstractInsertQuery.Entry entry : entries) {
+                if(!entry.getValues().isEmpty()) throw new IllegalArgumentException("Insert query can't have values and a query");
             }
-            queryBuilder.append(")");
+            buildInsertQueryFieldsPart(entries, queryBuilder);
+            queryBuilder.append(" ");
         }
-        return new Pair<>(queryBuilder.append(";").toString(), preparedValues);
+        List<SQLQueryTemplate.Binding> bindings = new ArrayList<>();
+        List<SQLQueryTemplate.SubQuery> subQueries = new ArrayList<>();
+        int preparedValuesCount = 0;
+        for (int i = 0; i < queries.size(); i++) {
+            if(i != 0) queryBuilder.append(" UNION ALL ");
+            preparedValuesCount += buildSubQuery(queries.get(i), values, preparedValuesCount, queryBuilder, bindings, subQueries);
+        }
+        SQLInsertQueryTemplate template = new SQLInsertQueryTemplate(queryBuilder.toString(), "", 1, bindings.size(), bindings, SQLQueryTemplate.ANY_VALUE_COUNT);
+        template.setSubQueries(subQueries);
+        return template;
     }
 
-    private void buildInsertQueryFieldsPart(List<AbstractInsertQuery.Entry> entries, StringBuilder queryBuilder, AtomicInteger preparedValuesCount, AtomicInteger valueCount, List<Object> preparedValues, Object[] values) {
+    /*
+     * Renders a find query as subquery and merges its bindings. The subquery consumes the prepared values after the
+     * already consumed values of the outer query, the amount of consumed prepared values is returned. The subquery and
+     * its own subqueries are registered, so the outer template is rebuilt after one of them was modified.
+     */
+    private int buildSubQuery(FindQuery query, Object[] values, int preparedValuesCount, StringBuilder queryBuilder,
+                              List<SQLQueryTemplate.Binding> bindings, List<SQLQueryTemplate.SubQuery> subQueries) {
+        if(!(query instanceof SQLFindQuery)) throw new IllegalArgumentException("Subquery must be a find query of a sql database");
+        Object[] subValues = preparedValuesCount >= values.length ? new Object[0] : Arrays.copyOfRange(values, preparedValuesCount, values.length);
+        SQLFindQuery findQuery = (SQLFindQuery) query;
+        SQLQueryTemplate template = findQuery.getTemplate(subValues);
+        subQueries.add(new SQLQueryTemplate.SubQuery(findQuery, findQuery.getModificationCount()));
+        subQueries.addAll(template.getSubQueries());
+
+        String subQuery = template.getQuery().trim();
+        if(subQuery.endsWith(";")) subQuery = subQuery.substring(0, subQuery.length() - 1);
+        queryBuilder.append(subQuery);
+        for (SQLQueryTemplate.Binding binding : template.getBindings()) {
+            bindings.add(binding.shift(preparedValuesCount));
+        }
+        return template.getPreparedValueCount();
+    }
+
+    private void buildInsertQueryFieldsPart(List<AbstractInsertQuery.Entry> entries, StringBuilder queryBuilder) {
         for (int i = 0; i < entries.size(); i++) {
-            AbstractInsertQuery.Entry entry = entries.get(i);
             if(i == 0) {
                 queryBuilder.append("(");
             } else {
                 queryBuilder.append(",");
             }
-            queryBuilder.append("`").append(entry.getField()).append("`");
-            valueCount.addAndGet(entry.getValues().size());
-            for (Object value : entry.getValues()) {
-                preparedValues.add(getEntry(value, preparedValuesCount, values));
-            }
+            queryBuilder.append("`").append(entries.get(i).getField()).append("`");
         }
+        queryBuilder.append(")");
     }
 
     @Override
-    public Pair<String, List<Object>> newUpdateQuery(SQLDatabaseCollection collection, List<AbstractUpdateQuery.Entry> entries, Object[] values) {
+    public SQLQueryTemplate newUpdateQuery(SQLDatabaseCollection collection, List<AbstractUpdateQuery.Entry> entries, Object[] values) {
         UpdateQueryBuilderState state = new UpdateQueryBuilderState(values);
         for (AbstractSearchQuery.Entry entry : entries) {
             if(entry instanceof AbstractChangeAndSearchQuery.ChangeAndSearchEntry) {
@@ -272,7 +337,7 @@ public abstract class AbstractDialect implements Dialect {
             queryBuilder.append(collection.getDatabase().getName()).append("`.`");
         }
         queryBuilder.append(collection.getName()).append("` ").append(state.setBuilder).append(state.buildSearchQuery());
-        return new Pair<>(queryBuilder.toString(), state.preparedValues);
+        return state.buildTemplate(queryBuilder.toString());
     }
 
     private void buildUpdateQueryEntry(AbstractChangeAndSearchQuery.ChangeAndSearchEntry entry, UpdateQueryBuilderState state) {
@@ -287,20 +352,108 @@ public abstract class AbstractDialect implements Dialect {
             state.setBuilder.append("`").append(field).append("`").append(entry.getOperator().getSymbol());
         }
         state.setBuilder.append("?");
-        addEntry(entry.getValue(), state);
+        addEntry(entry.getValue(), state, state.setBindings);
     }
 
+    /*
+     * The where conditions of the replace query are the key of the upsert, the changes are inserted or updated.
+     * Every row consumes the same amount of prepared values, multiple rows are upserted with one statement.
+     */
     @Override
-    public Pair<String, List<Object>> newReplaceQuery(SQLDatabaseCollection collection, List<AbstractReplaceQuery.Entry> entries, Object[] values) {
-        return null;
+    public SQLInsertQueryTemplate newReplaceQuery(SQLDatabaseCollection collection, List<AbstractReplaceQuery.Entry> entries, Object[] values) {
+        List<String> fields = new ArrayList<>();
+        List<Object> fieldValues = new ArrayList<>();
+        List<String> keyFields = new ArrayList<>();
+        List<AbstractChangeAndSearchQuery.ChangeAndSearchEntry> changeEntries = new ArrayList<>();
+        for (AbstractSearchQuery.Entry entry : entries) {
+            if(entry instanceof AbstractChangeAndSearchQuery.ChangeAndSearchEntry) {
+                AbstractChangeAndSearchQuery.ChangeAndSearchEntry changeEntry = (AbstractChangeAndSearchQuery.ChangeAndSearchEntry) entry;
+                changeEntries.add(changeEntry);
+                fields.add(changeEntry.getField());
+                fieldValues.add(changeEntry.getValue());
+            } else if(entry instanceof AbstractSearchQuery.ConditionEntry
+                    && ((AbstractSearchQuery.ConditionEntry) entry).getType() == AbstractSearchQuery.ConditionEntry.Type.WHERE
+                    && ((AbstractSearchQuery.ConditionEntry) entry).getExtra() == null) {
+                AbstractSearchQuery.ConditionEntry conditionEntry = (AbstractSearchQuery.ConditionEntry) entry;
+                keyFields.add(conditionEntry.getField());
+                fields.add(conditionEntry.getField());
+                fieldValues.add(conditionEntry.getValue1());
+            } else {
+                throw new IllegalArgumentException("Replace query only supports where conditions as key");
+            }
+        }
+        if(changeEntries.isEmpty()) throw new IllegalArgumentException("Replace query has no fields");
+
+        int preparedValuesCount = 0;
+        for (Object value : fieldValues) {
+            if(value == EntryOption.PREPARED) preparedValuesCount++;
+        }
+        int rowCount = 1;
+        int valueCount = SQLQueryTemplate.ANY_VALUE_COUNT;
+        if(preparedValuesCount > 0) {
+            if(values.length < preparedValuesCount) throw new IllegalArgumentException("No prepared value in Query#execute");
+            if(values.length % preparedValuesCount != 0) throw new IllegalArgumentException("Invalid values length.");
+            rowCount = values.length / preparedValuesCount;
+            valueCount = values.length;
+        }
+
+        StringBuilder fieldsBuilder = new StringBuilder();
+        StringBuilder rowBuilder = new StringBuilder("(");
+        for (int i = 0; i < fields.size(); i++) {
+            if(i != 0) {
+                fieldsBuilder.append(",");
+                rowBuilder.append(",");
+            }
+            fieldsBuilder.append("`").append(fields.get(i)).append("`");
+            rowBuilder.append("?");
+        }
+        rowBuilder.append(")");
+
+        List<SQLQueryTemplate.Binding> bindings = new ArrayList<>();
+        int preparedIndex = 0;
+        for (int row = 0; row < rowCount; row++) {
+            for (Object value : fieldValues) {
+                if(value == EntryOption.PREPARED) bindings.add(SQLQueryTemplate.Binding.single(preparedIndex++));
+                else bindings.add(SQLQueryTemplate.Binding.constant(value));
+            }
+        }
+
+        Pair<String, String> parts = buildReplaceQueryParts(buildCollectionName(collection), fieldsBuilder.toString(), keyFields, changeEntries);
+        return new SQLInsertQueryTemplate(parts.getKey(), rowBuilder.toString(), parts.getValue(), rowCount, fields.size(), bindings, valueCount);
+    }
+
+    /*
+     * Returns the part before and after the value rows of an upsert.
+     */
+    protected Pair<String, String> buildReplaceQueryParts(String collectionName, String fields, List<String> keyFields, List<AbstractChangeAndSearchQuery.ChangeAndSearchEntry> changeEntries) {
+        StringBuilder updateBuilder = new StringBuilder(" ON DUPLICATE KEY UPDATE ");
+        for (int i = 0; i < changeEntries.size(); i++) {
+            AbstractChangeAndSearchQuery.ChangeAndSearchEntry entry = changeEntries.get(i);
+            if(i != 0) updateBuilder.append(",");
+            updateBuilder.append("`").append(entry.getField()).append("`=");
+            if(entry.getOperator() != null) {
+                updateBuilder.append("`").append(entry.getField()).append("`").append(entry.getOperator().getSymbol());
+            }
+            updateBuilder.append("VALUES(`").append(entry.getField()).append("`)");
+        }
+        return new Pair<>("INSERT INTO " + collectionName + " (" + fields + ") VALUES ", updateBuilder.toString());
+    }
+
+    protected String buildCollectionName(SQLDatabaseCollection collection) {
+        if(this.environment == DatabaseDriverEnvironment.REMOTE) {
+            return "`" + collection.getDatabase().getName() + "`.`" + collection.getName() + "`";
+        }
+        return "`" + collection.getName() + "`";
     }
 
     @Override
-    public Pair<String, List<Object>> newFindQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractFindQuery.Entry> entries, Object[] values) {
+    public SQLQueryTemplate newFindQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractFindQuery.Entry> entries, Object[] values) {
         FindQueryBuilderState state = new FindQueryBuilderState(values);
 
         for (AbstractFindQuery.GetEntry getEntry : getEntries) {
             buildFindQueryEntry(getEntry, state);
+            //The aggregations of multiple chunks can't be merged
+            if(getEntry.getAggregation() != null) state.splittable = false;
         }
         for (AbstractSearchQuery.Entry entry : entries) {
             buildSearchQueryEntry(entry, state, "AND", false);
@@ -312,7 +465,51 @@ public abstract class AbstractDialect implements Dialect {
         }
         queryBuilder.append(collection.getName()).append("` ").append(state.buildSearchQuery());
 
-        return new Pair<>(queryBuilder.toString(), state.preparedValues);
+        return state.buildTemplate(queryBuilder.toString());
+    }
+
+    @Override
+    public SQLQueryTemplate newCountQuery(SQLDatabaseCollection collection, List<AbstractFindQuery.GetEntry> getEntries, List<AbstractSearchQuery.Entry> entries, boolean exists, Object[] values) {
+        FindQueryBuilderState state = new FindQueryBuilderState(values);
+        for (AbstractSearchQuery.Entry entry : entries) {
+            if(entry instanceof AbstractChangeAndSearchQuery.ChangeAndSearchEntry) {
+                //Changes of update and replace queries are not counted, but their prepared values are skipped
+                if(((AbstractChangeAndSearchQuery.ChangeAndSearchEntry) entry).getValue() == EntryOption.PREPARED) state.preparedValuesCount++;
+            } else {
+                buildSearchQueryEntry(entry, state, "AND", false);
+            }
+        }
+        //The counts of multiple chunks are not merged
+        state.splittable = false;
+
+        StringBuilder queryBuilder = new StringBuilder(exists ? "SELECT 1 FROM " : "SELECT COUNT(*) FROM ");
+        if(state.limitBuilder.length() != 0 || state.groupByBuilder.length() != 0 || state.unionBuilder.length() != 0) {
+            //Limited, grouped and combined results are counted as derived table, unions require the selected fields
+            if(state.unionBuilder.length() != 0) {
+                for (AbstractFindQuery.GetEntry getEntry : getEntries) {
+                    buildFindQueryEntry(getEntry, state);
+                }
+            } else {
+                state.getBuilder.append("1");
+            }
+            queryBuilder.append("(SELECT ").append(buildFindQueryGetBuilder(state)).append(" FROM ").append(buildCollectionName(collection))
+                    .append(" ").append(state.buildSearchQuery()).append(") AS `result`");
+        } else {
+            //The order doesn't change the count
+            state.orderByBuilder.setLength(0);
+            queryBuilder.append(buildCollectionName(collection)).append(" ").append(state.buildSearchQuery());
+        }
+        if(exists) queryBuilder.append(" LIMIT 1");
+        return state.buildTemplate(queryBuilder.toString());
+    }
+
+    /*
+     * MySQL and MariaDB keep an estimated row count of every table in the information schema, which is cheap to read.
+     */
+    @Override
+    public Pair<String, List<Object>> newEstimatedSizeQuery(SQLDatabaseCollection collection) {
+        return new Pair<>("SELECT TABLE_ROWS FROM information_schema.TABLES WHERE TABLE_SCHEMA=? AND TABLE_NAME=?",
+                Arrays.asList(collection.getDatabase().getName(), collection.getName()));
     }
 
     private String buildFindQueryGetBuilder(FindQueryBuilderState state) {
@@ -334,7 +531,7 @@ public abstract class AbstractDialect implements Dialect {
 
 
     @Override
-    public Pair<String, List<Object>> newDeleteQuery(SQLDatabaseCollection collection, List<AbstractDeleteQuery.Entry> entries, Object[] values) {
+    public SQLQueryTemplate newDeleteQuery(SQLDatabaseCollection collection, List<AbstractDeleteQuery.Entry> entries, Object[] values) {
         SearchQueryBuilderState state = new SearchQueryBuilderState(values);
         for (AbstractSearchQuery.Entry entry : entries) {
             buildSearchQueryEntry(entry, state, "AND", false);
@@ -345,7 +542,7 @@ public abstract class AbstractDialect implements Dialect {
             queryBuilder.append(collection.getDatabase().getName()).append("`.`");
         }
         queryBuilder.append(collection.getName()).append("` ").append(state.buildSearchQuery());
-        return new Pair<>(queryBuilder.toString(), state.preparedValues);
+        return state.buildTemplate(queryBuilder.toString());
     }
 
 
@@ -363,6 +560,10 @@ public abstract class AbstractDialect implements Dialect {
             buildSearchQueryOrderByEntry((AbstractSearchQuery.OrderByEntry) entry, state);
         } else if(entry instanceof AbstractSearchQuery.GroupByEntry) {
             buildSearchQueryGroupByEntry((AbstractSearchQuery.GroupByEntry) entry, state);
+        } else if(entry instanceof AbstractSearchQuery.KeysetEntry) {
+            buildSearchQueryKeysetEntry((AbstractSearchQuery.KeysetEntry) entry, state);
+        } else if(entry instanceof AbstractSearchQuery.UnionEntry) {
+            buildSearchQueryUnionEntry((AbstractSearchQuery.UnionEntry) entry, state);
         }
     }
 
@@ -414,7 +615,7 @@ public abstract class AbstractDialect implements Dialect {
         } else {
             state.clauseBuilder.append("`").append(buildField(entry)).append("`");
         }
-        addEntry(entry.getValue1(), state);
+        addEntry(entry.getValue1(), state, state.clauseBindings);
         state.clauseBuilder.append(getWhereCompareSymbol(entry.getType())).append("?");
     }
 
@@ -427,19 +628,42 @@ public abstract class AbstractDialect implements Dialect {
         state.clauseBuilder.append("NULL");
     }
 
+    /*
+     * Lists are padded to the next power of two, so the query is reused for lists with a similar size. The first list
+     * of the top level conditions is splittable, large lists are executed in chunks.
+     */
     private void buildSearchQueryWhereInConditionEntry(AbstractSearchQuery.ConditionEntry entry, SearchQueryBuilderState state) {
         if(state.negate) {
             state.clauseBuilder.append("NOT ");
         }
         state.clauseBuilder.append("`").append(buildField(entry)).append("` IN (");
 
-        @SuppressWarnings("unchecked")
-        List<Object> values = (List<Object>) addAndGetEntry(entry.getValue1(), state);
+        Object value = entry.getValue1();
+        SQLQueryTemplate.Binding binding;
+        if(value == EntryOption.PREPARED) {
+            if(state.values.length <= state.preparedValuesCount) throw new IllegalArgumentException("No prepared value in Query#execute");
+            int index = state.preparedValuesCount++;
+            binding = SQLQueryTemplate.Binding.list(index, SQLQueryTemplate.getPaddedSize(SQLQueryTemplate.getSize(state.values[index])));
+        } else if(value instanceof Collection<?>) {
+            Collection<?> values = (Collection<?>) value;
+            binding = SQLQueryTemplate.Binding.constantList(values, SQLQueryTemplate.getPaddedSize(values.size()));
+        } else if(value instanceof FindQuery) {
+            state.preparedValuesCount += buildSubQuery((FindQuery) value, state.values, state.preparedValuesCount, state.clauseBuilder, state.clauseBindings, state.subQueries);
+            state.clauseBuilder.append(")");
+            return;
+        } else {
+            addEntry(value, state, state.clauseBindings);
+            state.clauseBuilder.append("?)");
+            return;
+        }
 
-        for (int i = 0; i < values.size(); i++) {
-            if(i > 0) state.clauseBuilder.append(",");
-            state.clauseBuilder.append("?");
+        if(state.depth == 0 && !state.negate && state.listBinding == -1) {
+            state.listBinding = state.clauseBindings.size();
+            state.clauseBuilder.append(LIST_MARKER);
+        } else {
+            state.clauseBuilder.append(SQLQueryTemplate.buildPlaceholders(binding.getSize()));
         }
+        state.clauseBindings.add(binding);
         state.clauseBuilder.append(")");
     }
 
@@ -449,8 +673,8 @@ public abstract class AbstractDialect implements Dialect {
         }
         state.clauseBuilder.append("`").append(buildField(entry)).append("`");
         state.clauseBuilder.append(" BETWEEN ? AND ?");
-        addEntry(entry.getValue1(), state);
-        addEntry(entry.getExtra(), state);
+        addEntry(entry.getValue1(), state, state.clauseBindings);
+        addEntry(entry.getExtra(), state, state.clauseBindings);
     }
 
     private String getWhereCompareSymbol(AbstractSearchQuery.ConditionEntry.Type type) {
@@ -474,9 +698,11 @@ public abstract class AbstractDialect implements Dialect {
             }
             case NOT : {
                 state.negate = true;
+                state.depth++;
                 for (AbstractSearchQuery.Entry child : entry.getEntries()) {
                     buildSearchQueryEntry(child, state, "AND", false);
                 }
+                state.depth--;
                 state.negate = false;
             }
         }
@@ -497,11 +723,13 @@ public abstract class AbstractDialect implements Dialect {
         }
 
         state.clauseBuilder.append("(");
+        state.depth++;
         boolean first = true;
         for (AbstractSearchQuery.Entry child : entry.getEntries()) {
             buildSearchQueryEntry(child, state, symbol, first);
             first = false;
         }
+        state.depth--;
 
         state.clauseBuilder.append(")");
     }
@@ -555,6 +783,70 @@ public abstract class AbstractDialect implements Dialect {
         state.orderByBuilder.append(" ").append(entry.getOrder());
     }
 
+    /*
+     * Builds (`k1`,`k2`) > (?,?), or < for descending pages, and orders by the key fields in the same direction before
+     * all other orders, an index on the key fields allows the database to seek directly to the first entry of the page.
+     */
+    private void buildSearchQueryKeysetEntry(AbstractSearchQuery.KeysetEntry entry, SearchQueryBuilderState state) {
+        if(state.union) {
+            throw new IllegalArgumentException("Keyset pagination can't be combined with a union");
+        }
+        state.keyset = true;
+        if(state.where) {
+            state.clauseBuilder.append(" WHERE ");
+            state.where = false;
+        } else {
+            state.clauseBuilder.append(" AND ");
+        }
+        List<AbstractSearchQuery.ConditionEntry> keys = entry.getKeys();
+        StringBuilder fieldsBuilder = new StringBuilder();
+        StringBuilder valuesBuilder = new StringBuilder();
+        StringBuilder orderBuilder = new StringBuilder();
+        for (int i = 0; i < keys.size(); i++) {
+            if(i != 0) {
+                fieldsBuilder.append(",");
+                valuesBuilder.append(",");
+                orderBuilder.append(",");
+            }
+            String field = buildField(keys.get(i));
+            fieldsBuilder.append("`").append(field).append("`");
+            valuesBuilder.append("?");
+            orderBuilder.append("`").append(field).append("` ").append(entry.getOrder());
+            addEntry(keys.get(i).getValue1(), state, state.clauseBindings);
+        }
+        String operator = entry.getOrder() == SearchOrder.ASC ? ">" : "<";
+        if(keys.size() == 1) {
+            state.clauseBuilder.append(fieldsBuilder).append(operator).append(valuesBuilder);
+        } else {
+            state.clauseBuilder.append("(").append(fieldsBuilder).append(")").append(operator).append("(").append(valuesBuilder).append(")");
+        }
+
+        if(state.orderByBuilder.length() == 0) {
+            state.orderByBuilder.append(" ORDER BY ").append(orderBuilder);
+        } else {
+            state.orderByBuilder.insert(" ORDER BY ".length(), orderBuilder.append(","));
+        }
+    }
+
+    /*
+     * The combined queries are placed between the clause and the order, so the order and the limit apply to the
+     * combined result and only the requested page is transferred.
+     */
+    private void buildSearchQueryUnionEntry(AbstractSearchQuery.UnionEntry entry, SearchQueryBuilderState state) {
+        if(!(state instanceof FindQueryBuilderState) || !(entry.getQuery() instanceof FindQuery)) {
+            throw new IllegalArgumentException("Union is only supported for find queries");
+        }
+        if(state.keyset) {
+            throw new IllegalArgumentException("Keyset pagination can't be combined with a union");
+        }
+        state.union = true;
+        state.unionBuilder.append(entry.isAll() ? " UNION ALL (" : " UNION (");
+        state.preparedValuesCount += buildSubQuery((FindQuery) entry.getQuery(), state.values, state.preparedValuesCount, state.unionBuilder, state.unionBindings, state.subQueries);
+        state.unionBuilder.append(")");
+        //Chunks of a where in list can't be merged with the combined result
+        state.splittable = false;
+    }
+
     private void buildSearchQueryGroupByEntry(AbstractSearchQuery.GroupByEntry entry, SearchQueryBuilderState state) {
         if(state.groupByBuilder.length() == 0) {
             state.groupByBuilder.append(" GROUP BY ");
@@ -571,8 +863,8 @@ public abstract class AbstractDialect implements Dialect {
 
     private void buildSearchQueryLimitEntry(AbstractSearchQuery.LimitEntry entry, SearchQueryBuilderState state) {
         if(state.limitBuilder.length() == 0) {
-            addEntry(entry.getLimit(), state);
-            addEntry(entry.getOffset(), state);
+            addEntry(entry.getLimit(), state, state.limitBindings);
+            addEntry(entry.getOffset(), state, state.limitBindings);
             state.limitBuilder.append(" LIMIT ? OFFSET ?");
         } else {
             throw new IllegalArgumentException("Query can't have more than one limit and offset");
@@ -611,36 +903,29 @@ public abstract class AbstractDialect implements Dialect {
         return builder.toString();
     }
 
-    private Object getEntry(Object value, AtomicInteger preparedValuesCount, Object[] values) {
+    private int addEntry(Object value, SearchQueryBuilderState state, List<SQLQueryTemplate.Binding> bindings, boolean expand) {
         if(EntryOption.PREPARED != value) {
-            return value;
-        } else if(values.length > preparedValuesCount.get()) {
-            return values[preparedValuesCount.getAndIncrement()];
+            if(value instanceof Collection<?>) {
+                for (Object entry : (Collection<?>) value) bindings.add(SQLQueryTemplate.Binding.constant(entry));
+                return ((Collection<?>) value).size();
+            }
+            bindings.add(SQLQueryTemplate.Binding.constant(value));
+            return 1;
+        } else if(state.values.length > state.preparedValuesCount) {
+            int index = state.preparedValuesCount++;
+            int size = SQLQueryTemplate.getSize(state.values[index]);
+            bindings.add(expand ? SQLQueryTemplate.Binding.expanded(index, size) : SQLQueryTemplate.Binding.prepared(index));
+            return size;
         }
         throw new IllegalArgumentException("No prepared value in Query#execute");
     }
 
-    private Object addAndGetEntry(Object value, SearchQueryBuilderState state) {
-        if(EntryOption.PREPARED != value) {
-            if(value instanceof Collection<?>) state.preparedValues.addAll((Collection<?>) value);
-            else state.preparedValues.add(value);
-            return value;
-        } else if(state.values.length > state.preparedValuesCount) {
-            Object preparedValue = state.values[state.preparedValuesCount++];
-            if(preparedValue instanceof PreparedValue) {
-                state.preparedValues.addAll(((PreparedValue) preparedValue).getValues());
-                return ((PreparedValue)preparedValue).getValues();
-            } else {
-                if(preparedValue instanceof Collection<?>) state.preparedValues.addAll((Collection<?>) preparedValue);
-                else state.preparedValues.add(preparedValue);
-                return preparedValue;
-            }
-        }
-        throw new IllegalArgumentException("No prepared value in Query#execute");
+    private int addExpandedEntry(Object value, SearchQueryBuilderState state, List<SQLQueryTemplate.Binding> bindings) {
+        return addEntry(value, state, bindings, true);
     }
 
-    private void addEntry(Object value, SearchQueryBuilderState state) {
-        addAndGetEntry(value, state);
+    private void addEntry(Object value, SearchQueryBuilderState state, List<SQLQueryTemplate.Binding> bindings) {
+        addEntry(value, state, bindings, false);
     }
 
 
@@ -652,12 +937,21 @@ public abstract class AbstractDialect implements Dialect {
         final StringBuilder limitBuilder;
         final StringBuilder orderByBuilder;
         final StringBuilder groupByBuilder;
+        final StringBuilder unionBuilder;
         final Object[] values;
-        final List<Object> preparedValues;
+        final List<SQLQueryTemplate.Binding> clauseBindings;
+        final List<SQLQueryTemplate.Binding> unionBindings;
+        final List<SQLQueryTemplate.Binding> limitBindings;
+        final List<SQLQueryTemplate.SubQuery> subQueries;
         int preparedValuesCount;
         boolean where;
         boolean operator;
         boolean negate;
+        int depth;
+        int listBinding;
+        boolean splittable;
+        boolean keyset;
+        boolean union;
 
         public SearchQueryBuilderState(Object[] values) {
             this.clauseBuilder = new StringBuilder();
@@ -665,17 +959,55 @@ public abstract class AbstractDialect implements Dialect {
             this.limitBuilder = new StringBuilder();
             this.orderByBuilder = new StringBuilder();
             this.groupByBuilder = new StringBuilder();
+            this.unionBuilder = new StringBuilder();
             this.values = values;
-            this.preparedValues = new ArrayList<>();
+            this.clauseBindings = new ArrayList<>();
+            this.unionBindings = new ArrayList<>();
+            this.limitBindings = new ArrayList<>();
+            this.subQueries = new ArrayList<>();
             preparedValuesCount = 0;
             this.where = true;
             this.operator = true;
             this.negate = false;
+            this.depth = 0;
+            this.listBinding = -1;
+            this.splittable = true;
+            this.keyset = false;
+            this.union = false;
         }
 
         public String buildSearchQuery() {
             return joinBuilder.toString() + clauseBuilder.toString() + groupByBuilder.toString()
-                    + orderByBuilder.toString() + limitBuilder.toString();
+                    + unionBuilder.toString() + orderByBuilder.toString() + limitBuilder.toString();
+        }
+
+        public SQLQueryTemplate buildTemplate(String query) {
+            SQLQueryTemplate template = createTemplate(query);
+            template.setSubQueries(this.subQueries);
+            return template;
+        }
+
+        private SQLQueryTemplate createTemplate(String query) {
+            List<SQLQueryTemplate.Binding> bindings = new ArrayList<>();
+            addLeadingBindings(bindings);
+            int listBinding = this.listBinding == -1 ? -1 : bindings.size() + this.listBinding;
+            bindings.addAll(clauseBindings);
+            bindings.addAll(unionBindings);
+            bindings.addAll(limitBindings);
+            if(listBinding == -1) return new SQLQueryTemplate(query, bindings);
+
+            int marker = query.indexOf(LIST_MARKER);
+            String prefix = query.substring(0, marker);
+            String suffix = query.substring(marker + LIST_MARKER.length());
+            //Chunks can only be merged, if the query doesn't limit, order or group the result
+            if(this.splittable && limitBuilder.length() == 0 && orderByBuilder.length() == 0 && groupByBuilder.length() == 0) {
+                return new SQLQueryTemplate(prefix, suffix, listBinding, bindings);
+            }
+            return new SQLQueryTemplate(prefix + SQLQueryTemplate.buildPlaceholders(bindings.get(listBinding).getSize()) + suffix, bindings);
+        }
+
+        protected void addLeadingBindings(List<SQLQueryTemplate.Binding> bindings) {
+            //Only required for queries with parameters before the search clause
         }
     }
 
@@ -692,11 +1024,17 @@ public abstract class AbstractDialect implements Dialect {
     private static class UpdateQueryBuilderState extends SearchQueryBuilderState {
 
         final StringBuilder setBuilder;
-
+        final List<SQLQueryTemplate.Binding> setBindings;
 
         public UpdateQueryBuilderState(Object[] values) {
             super(values);
             this.setBuilder = new StringBuilder();
+            this.setBindings = new ArrayList<>();
+        }
+
+        @Override
+        protected void addLeadingBindings(List<SQLQueryTemplate.Binding> bindings) {
+            bindings.addAll(this.setBindings);
         }
     }
 }
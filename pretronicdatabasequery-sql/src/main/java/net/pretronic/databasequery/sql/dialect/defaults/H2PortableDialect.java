@@ -20,8 +20,12 @@
 package net.pretronic.databasequery.sql.dialect.defaults;
 
 import net.pretronic.databasequery.common.DatabaseDriverEnvironment;
+import net.pretronic.databasequery.common.query.type.AbstractChangeAndSearchQuery;
+import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.libraries.utility.map.Pair;
 
 import java.io.File;
+import java.util.List;
 
 public class H2PortableDialect extends AbstractDialect {
 
@@ -29,6 +33,42 @@ public class H2PortableDialect extends AbstractDialect {
         super("H2Portable", "org.h2.Driver", "h2:file", DatabaseDriverEnvironment.LOCAL,true);
     }
 
+    /*
+     * H2 doesn't limit the parameters of a statement, large inserts are still split by the configured chunk size.
+     */
+    @Override
+    public int getMaxParameterCount() {
+        return Integer.MAX_VALUE;
+    }
+
+    /*
+     * H2 merges the rows by the key fields, or by the primary key if the query has no key fields.
+     */
+    @Override
+    protected Pair<String, String> buildReplaceQueryParts(String collectionName, String fields, List<String> keyFields, List<AbstractChangeAndSearchQuery.ChangeAndSearchEntry> changeEntries) {
+        for (AbstractChangeAndSearchQuery.ChangeAndSearchEntry entry : changeEntries) {
+            if(entry.getOperator() != null) throw new UnsupportedOperationException("H2 doesn't support arithmetic operations in replace queries");
+        }
+        StringBuilder queryBuilder = new StringBuilder("MERGE INTO ").append(collectionName).append(" (").append(fields).append(")");
+        if(!keyFields.isEmpty()) {
+            queryBuilder.append(" KEY(");
+            for (int i = 0; i < keyFields.size(); i++) {
+                if(i != 0) queryBuilder.append(",");
+                queryBuilder.append("`").append(keyFields.get(i)).append("`");
+            }
+            queryBuilder.append(")");
+        }
+        return new Pair<>(queryBuilder.append(" VALUES ").toString(), "");
+    }
+
+    /*
+     * Portable databases are small, they are counted exactly.
+     */
+    @Override
+    public Pair<String, List<Object>> newEstimatedSizeQuery(SQLDatabaseCollection collection) {
+        return null;
+    }
+
     @Override
     public String createConnectionString(String connectionString, Object host) {
         if(connectionString != null) {
@@ -31,8 +31,14 @@ import net.pretronic.libraries.utility.Iterators;
 import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.databasequery.common.DatabaseDriverEnvironment;
 import net.pretronic.databasequery.common.driver.AbstractDatabaseDriver;
+import net.pretronic.databasequery.common.driver.PooledQueryExecutor;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.databasequery.common.driver.VirtualThreadQueryExecutor;
+import net.pretronic.databasequery.common.driver.metrics.DefaultQueryMetrics;
 import net.pretronic.databasequery.sql.DataTypeInfo;
 import net.pretronic.databasequery.sql.SQLDatabase;
+import net.pretronic.databasequery.sql.SQLQueryMetrics;
+import net.pretronic.databasequery.sql.SQLResultCache;
 import net.pretronic.databasequery.sql.dialect.Dialect;
 import net.pretronic.databasequery.sql.dialect.DialectDocumentAdapter;
 import net.pretronic.databasequery.sql.driver.config.SQLDatabaseDriverConfig;
@@ -59,11 +65,13 @@ public class SQLDatabaseDriver extends AbstractDatabaseDriver {
     private DataSource dataSource;
     private final Collection<SQLDatabase> databases;
     private final Collection<DataTypeInfo> dataTypeInfos;
+    private final SQLResultCache resultCache;
 
     public SQLDatabaseDriver(String name, DatabaseDriverConfig<?> config, PretronicLogger logger, ExecutorService executorService) {
         super(name, "SQL", config, logger, executorService);
         this.databases = new ArrayList<>();
         this.dataTypeInfos = new ArrayList<>();
+        this.resultCache = new SQLResultCache(getConfig().getOptions().getResultCacheSize(), getConfig().getOptions().getResultCacheExpire());
         registerDataTypeInfos();
     }
 
@@ -108,6 +116,7 @@ public class SQLDatabaseDriver extends AbstractDatabaseDriver {
 
     @Override
     public void disconnect() {
+        closeWriteBuffers();
         getLogger().info("{} Disconnected from sql database at {}",getName(), getConfig().getConnectionString());
         if(this.getDialect().getEnvironment() == DatabaseDriverEnvironment.LOCAL) {
             for (SQLDatabase database : this.databases) {
@@ -118,6 +127,22 @@ public class SQLDatabaseDriver extends AbstractDatabaseDriver {
         } else if(this.dataSource != null && this.dataSource instanceof AutoCloseable) {
             try(AutoCloseable ignored = (AutoCloseable) this.dataSource) {} catch (Exception ignored) {}
         }
+        shutdownQueryExecutor();
+    }
+
+    @Override
+    protected QueryExecutor createQueryExecutor() {
+        if(getConfig().getOptions().getExecutorType() == QueryExecutor.Type.VIRTUAL) {
+            if(VirtualThreadQueryExecutor.isSupported()) return new VirtualThreadQueryExecutor(getConfig().getDataSourceMaximumPoolSize());
+            getLogger().warn("{} Virtual threads are not supported by this java runtime, using pooled query executor", getName());
+        }
+        return new PooledQueryExecutor(getName(), getConfig().getDataSourceMaximumPoolSize(), getConfig().getOptions().getExecutorQueueSize(),
+                getConfig().getOptions().getExecutorRejectionPolicy());
+    }
+
+    @Override
+    protected DefaultQueryMetrics createQueryMetrics() {
+        return new SQLQueryMetrics(this, getConfig().getOptions().isMetricsEnabled());
     }
 
     @Override
@@ -141,6 +166,10 @@ public class SQLDatabaseDriver extends AbstractDatabaseDriver {
         return database;
     }
 
+    public SQLResultCache getResultCache() {
+        return resultCache;
+    }
+
     @Internal
     public Dialect getDialect() {
         return getConfig().getDialect();
@@ -86,7 +86,10 @@ public abstract class SQLDatabaseDriverConfig<T extends SQLDatabaseDriverConfig<
     @DocumentKey("datasource.minimumIdleConnectionPoolSize")
     protected int dataSourceMinimumIdleConnectionPoolSize;
 
-    protected SQLDatabaseDriverConfig(String name, Dialect dialect, String connectionString, String connectionCatalog, String connectionSchema, boolean connectionReadOnly, int connectionIsolationLevel, int connectionNetworkTimeout, String dataSourceClassName, long dataSourceConnectionExpireAfterAccess, long dataSourceConnectionExpire, long dataSourceConnectionLoginTimeout, int dataSourceMaximumPoolSize, int dataSourceMinimumIdleConnectionPoolSize) {
+    @DocumentKey("options")
+    protected SQLDatabaseDriverOptions options;
+
+    protected SQLDatabaseDriverConfig(String name, Dialect dialect, String connectionString, String connectionCatalog, String connectionSchema, boolean connectionReadOnly, int connectionIsolationLevel, int connectionNetworkTimeout, String dataSourceClassName, long dataSourceConnectionExpireAfterAccess, long dataSourceConnectionExpire, long dataSourceConnectionLoginTimeout, int dataSourceMaximumPoolSize, int dataSourceMinimumIdleConnectionPoolSize, SQLDatabaseDriverOptions options) {
         this.name = name;
         this.dialect = dialect;
         this.connectionString = connectionString;
@@ -95,6 +98,13 @@ public abstract class SQLDatabaseDriverConfig<T extends SQLDatabaseDriverConfig<
         this.connectionReadOnly = connectionReadOnly;
         this.connectionIsolationLevel = connectionIsolationLevel;
         this.connectionNetworkTimeout = connectionNetworkTimeout;
+        this.dataSourceClassName = dataSourceClassName;
+        this.dataSourceConnectionExpireAfterAccess = dataSourceConnectionExpireAfterAccess;
+        this.dataSourceConnectionExpire = dataSourceConnectionExpire;
+        this.dataSourceConnectionLoginTimeout = dataSourceConnectionLoginTimeout;
+        this.dataSourceMaximumPoolSize = dataSourceMaximumPoolSize;
+        this.dataSourceMinimumIdleConnectionPoolSize = dataSourceMinimumIdleConnectionPoolSize;
+        this.options = options;
     }
 
     @Override
@@ -189,4 +199,11 @@ public abstract class SQLDatabaseDriverConfig<T extends SQLDatabaseDriverConfig<
         }
         return this.dataSourceMinimumIdleConnectionPoolSize;
     }
+
+    public SQLDatabaseDriverOptions getOptions() {
+        if(this.options == null) {
+            this.options = new SQLDatabaseDriverOptions();
+        }
+        return this.options;
+    }
 }
@@ -45,6 +45,7 @@ public class SQLDatabaseDriverConfigBuilder {
     private long dataSourceConnectionLoginTimeout;
     private int dataSourceMaximumPoolSize;
     private int dataSourceMinimumIdleConnectionPoolSize;
+    private final SQLDatabaseDriverOptions options;
 
     //Local database driver
     private File location;
@@ -57,6 +58,7 @@ public class SQLDatabaseDriverConfigBuilder {
     public SQLDatabaseDriverConfigBuilder() {
         this.name = "SQL Pool-" + COUNT++;
         this.connectionReadOnly = false;
+        this.options = new SQLDatabaseDriverOptions();
         loadDriverClass();
     }
 
@@ -138,6 +140,101 @@ public class SQLDatabaseDriverConfigBuilder {
         return this;
     }
 
+    public SQLDatabaseDriverConfigBuilder setQueryBatchSize(int queryBatchSize) {
+        this.options.setQueryBatchSize(queryBatchSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setStatementCacheSize(int statementCacheSize) {
+        this.options.setStatementCacheSize(statementCacheSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setQueryFetchSize(int queryFetchSize) {
+        this.options.setQueryFetchSize(queryFetchSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setExecutorQueueSize(int executorQueueSize) {
+        this.options.setExecutorQueueSize(executorQueueSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setExecutorRejectionPolicy(String executorRejectionPolicy) {
+        this.options.setExecutorRejectionPolicy(executorRejectionPolicy);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setExecutorType(String executorType) {
+        this.options.setExecutorType(executorType);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setInsertChunkSize(int insertChunkSize) {
+        this.options.setInsertChunkSize(insertChunkSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setMaxPacketSize(int maxPacketSize) {
+        this.options.setMaxPacketSize(maxPacketSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setWhereInChunkSize(int whereInChunkSize) {
+        this.options.setWhereInChunkSize(whereInChunkSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setResultCacheSize(int resultCacheSize) {
+        this.options.setResultCacheSize(resultCacheSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setResultCacheExpire(long resultCacheExpire) {
+        this.options.setResultCacheExpire(resultCacheExpire);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setKeyCacheSize(int keyCacheSize) {
+        this.options.setKeyCacheSize(keyCacheSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setKeyCacheExpire(long keyCacheExpire) {
+        this.options.setKeyCacheExpire(keyCacheExpire);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setUpdateBufferSize(int updateBufferSize) {
+        this.options.setUpdateBufferSize(updateBufferSize);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setUpdateBufferInterval(long updateBufferInterval) {
+        this.options.setUpdateBufferInterval(updateBufferInterval);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setInsertSinkCapacity(int insertSinkCapacity) {
+        this.options.setInsertSinkCapacity(insertSinkCapacity);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setInsertSinkMaxLatency(long insertSinkMaxLatency) {
+        this.options.setInsertSinkMaxLatency(insertSinkMaxLatency);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setMetricsEnabled(boolean metricsEnabled) {
+        this.options.setMetricsEnabled(metricsEnabled);
+        return this;
+    }
+
+    public SQLDatabaseDriverConfigBuilder setColumnarResults(boolean columnarResults) {
+        this.options.setColumnarResults(columnarResults);
+        return this;
+    }
+
     public SQLDatabaseDriverConfigBuilder setLocation(File location) {
         this.location = location;
         return this;
@@ -164,13 +261,13 @@ public class SQLDatabaseDriverConfigBuilder {
             return new SQLLocalDatabaseDriverConfig(name, dialect, connectionString, connectionCatalog, connectionSchema,
                     connectionReadOnly, connectionIsolationLevel, connectionNetworkTimeout, dataSourceClassName,
                     dataSourceConnectionExpireAfterAccess, dataSourceConnectionExpire, dataSourceConnectionLoginTimeout,
-                    dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, location);
+                    dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, options.copy(), location);
         } else if(dialect.getEnvironment() == DatabaseDriverEnvironment.REMOTE) {
             Validate.notNull(username,address);
             return new SQLRemoteDatabaseDriverConfig(name, dialect, connectionString, connectionCatalog, connectionSchema,
                     connectionReadOnly, connectionIsolationLevel, connectionNetworkTimeout, dataSourceClassName,
                     dataSourceConnectionExpireAfterAccess, dataSourceConnectionExpire, dataSourceConnectionLoginTimeout,
-                    dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, address, username, password);
+                    dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, options.copy(), address, username, password);
         } else {
             throw new IllegalArgumentException(String.format("Not available database driver environment (%s) for sql dialect %s", dialect.getEnvironment(), dialect.getName()));
         }
@@ -0,0 +1,398 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 03:05
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.driver.config;
+
+import net.pretronic.databasequery.common.collection.DefaultInsertSink;
+import net.pretronic.databasequery.common.collection.KeyCache;
+import net.pretronic.databasequery.common.collection.UpdateBuffer;
+import net.pretronic.databasequery.common.driver.PooledQueryExecutor;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
+import net.pretronic.libraries.document.annotations.DocumentIgnoreBooleanValue;
+import net.pretronic.libraries.document.annotations.DocumentIgnoreZeroValue;
+import net.pretronic.libraries.document.annotations.DocumentKey;
+import net.pretronic.libraries.utility.interfaces.Copyable;
+
+/**
+ * Query, executor and cache options of a sql driver. The options are stored in the options node of the driver config,
+ * an option which is not set uses its default value.
+ */
+public class SQLDatabaseDriverOptions implements Copyable<SQLDatabaseDriverOptions> {
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.batchSize")
+    private int queryBatchSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.statementCacheSize")
+    private int statementCacheSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.fetchSize")
+    private int queryFetchSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("executor.queueSize")
+    private int executorQueueSize;
+
+    @DocumentKey("executor.rejectionPolicy")
+    private String executorRejectionPolicy;
+
+    @DocumentKey("executor.type")
+    private String executorType;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.insertChunkSize")
+    private int insertChunkSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.maxPacketSize")
+    private int maxPacketSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.whereInChunkSize")
+    private int whereInChunkSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.resultCacheSize")
+    private int resultCacheSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.resultCacheExpire")
+    private long resultCacheExpire;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.keyCacheSize")
+    private int keyCacheSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.keyCacheExpire")
+    private long keyCacheExpire;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.updateBufferSize")
+    private int updateBufferSize;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.updateBufferInterval")
+    private long updateBufferInterval;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.insertSinkCapacity")
+    private int insertSinkCapacity;
+
+    @DocumentIgnoreZeroValue
+    @DocumentKey("query.insertSinkMaxLatency")
+    private long insertSinkMaxLatency;
+
+    @DocumentIgnoreBooleanValue(ignore = false)
+    @DocumentKey("query.metricsEnabled")
+    private boolean metricsEnabled;
+
+    @DocumentIgnoreBooleanValue(ignore = false)
+    @DocumentKey("query.columnarResults")
+    private boolean columnarResults;
+
+    public int getQueryBatchSize() {
+        if(this.queryBatchSize == 0) {
+            this.queryBatchSize = 1000;
+        }
+        return this.queryBatchSize;
+    }
+
+    /*
+     * Maximum amount of prepared statements the MySQL or MariaDB jdbc driver caches per connection, a negative size
+     * disables the cache. The cache is configured on data sources created by HikariCP.
+     */
+    public int getStatementCacheSize() {
+        if(this.statementCacheSize == 0) {
+            this.statementCacheSize = 250;
+        }
+        return this.statementCacheSize;
+    }
+
+    /*
+     * Fetch size of streamed find queries, 0 uses the default of the jdbc driver. MySQL only streams rows with Integer.MIN_VALUE.
+     */
+    public int getQueryFetchSize() {
+        return this.queryFetchSize;
+    }
+
+    public int getExecutorQueueSize() {
+        if(this.executorQueueSize == 0) {
+            this.executorQueueSize = 1000;
+        }
+        return this.executorQueueSize;
+    }
+
+    public PooledQueryExecutor.RejectionPolicy getExecutorRejectionPolicy() {
+        if(this.executorRejectionPolicy == null) {
+            this.executorRejectionPolicy = PooledQueryExecutor.RejectionPolicy.ABORT.name();
+        }
+        return PooledQueryExecutor.RejectionPolicy.valueOf(this.executorRejectionPolicy.toUpperCase());
+    }
+
+    public QueryExecutor.Type getExecutorType() {
+        if(this.executorType == null) {
+            this.executorType = QueryExecutor.Type.POOLED.name();
+        }
+        return QueryExecutor.Type.valueOf(this.executorType.toUpperCase());
+    }
+
+    /*
+     * Maximum amount of rows of one multi-row insert statement, larger inserts are split into multiple statements.
+     */
+    public int getInsertChunkSize() {
+        if(this.insertChunkSize == 0) {
+            this.insertChunkSize = 1000;
+        }
+        return this.insertChunkSize;
+    }
+
+    /*
+     * Estimated maximum size in bytes of one multi-row insert statement (max_allowed_packet), a negative size disables the limit.
+     */
+    public int getMaxPacketSize() {
+        if(this.maxPacketSize == 0) {
+            this.maxPacketSize = 4194304;
+        }
+        return this.maxPacketSize;
+    }
+
+    /*
+     * Maximum amount of entries of a where in list in one query, larger lists are executed in chunks. A negative size disables the chunks.
+     */
+    public int getWhereInChunkSize() {
+        if(this.whereInChunkSize == 0) {
+            this.whereInChunkSize = 1000;
+        }
+        return this.whereInChunkSize;
+    }
+
+    /*
+     * Maximum amount of cached find query results, the result cache is disabled by default (zero or a negative size).
+     */
+    public int getResultCacheSize() {
+        return this.resultCacheSize;
+    }
+
+    /*
+     * Time in milliseconds after which a cached find query result expires.
+     */
+    public long getResultCacheExpire() {
+        if(this.resultCacheExpire == 0) {
+            this.resultCacheExpire = 60000;
+        }
+        return this.resultCacheExpire;
+    }
+
+    /*
+     * Maximum amount of cached entries of one key cache (DatabaseCollection#getByKey).
+     */
+    public int getKeyCacheSize() {
+        if(this.keyCacheSize == 0) {
+            this.keyCacheSize = KeyCache.DEFAULT_SIZE;
+        }
+        return this.keyCacheSize;
+    }
+
+    /*
+     * Time in milliseconds after which a cached key entry expires.
+     */
+    public long getKeyCacheExpire() {
+        if(this.keyCacheExpire == 0) {
+            this.keyCacheExpire = KeyCache.DEFAULT_EXPIRE;
+        }
+        return this.keyCacheExpire;
+    }
+
+    /*
+     * Maximum amount of buffered deltas per collection, before the update buffer is flushed.
+     */
+    public int getUpdateBufferSize() {
+        if(this.updateBufferSize == 0) {
+            this.updateBufferSize = UpdateBuffer.DEFAULT_SIZE;
+        }
+        return this.updateBufferSize;
+    }
+
+    /*
+     * Interval in milliseconds, in which the update buffers are flushed.
+     */
+    public long getUpdateBufferInterval() {
+        if(this.updateBufferInterval == 0) {
+            this.updateBufferInterval = UpdateBuffer.DEFAULT_INTERVAL;
+        }
+        return this.updateBufferInterval;
+    }
+
+    /*
+     * Default maximum amount of queued rows of an insert sink (DatabaseCollection#insertSink).
+     */
+    public int getInsertSinkCapacity() {
+        if(this.insertSinkCapacity == 0) {
+            this.insertSinkCapacity = DefaultInsertSink.DEFAULT_CAPACITY;
+        }
+        return this.insertSinkCapacity;
+    }
+
+    /*
+     * Default maximum time in milliseconds, a row is queued in an insert sink.
+     */
+    public long getInsertSinkMaxLatency() {
+        if(this.insertSinkMaxLatency == 0) {
+            this.insertSinkMaxLatency = DefaultInsertSink.DEFAULT_MAX_LATENCY;
+        }
+        return this.insertSinkMaxLatency;
+    }
+
+    /*
+     * Records the query metrics of the driver from the start (DatabaseDriver#getQueryMetrics).
+     */
+    public boolean isMetricsEnabled() {
+        return this.metricsEnabled;
+    }
+
+    /*
+     * Reads the results of find queries into primitive columns (ColumnarQueryResult) instead of row entries.
+     */
+    public boolean isColumnarResults() {
+        return this.columnarResults;
+    }
+
+    public SQLDatabaseDriverOptions setQueryBatchSize(int queryBatchSize) {
+        this.queryBatchSize = queryBatchSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setQueryFetchSize(int queryFetchSize) {
+        this.queryFetchSize = queryFetchSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setExecutorQueueSize(int executorQueueSize) {
+        this.executorQueueSize = executorQueueSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setExecutorRejectionPolicy(String executorRejectionPolicy) {
+        this.executorRejectionPolicy = executorRejectionPolicy;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setExecutorType(String executorType) {
+        this.executorType = executorType;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setInsertChunkSize(int insertChunkSize) {
+        this.insertChunkSize = insertChunkSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setMaxPacketSize(int maxPacketSize) {
+        this.maxPacketSize = maxPacketSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setWhereInChunkSize(int whereInChunkSize) {
+        this.whereInChunkSize = whereInChunkSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setResultCacheSize(int resultCacheSize) {
+        this.resultCacheSize = resultCacheSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setResultCacheExpire(long resultCacheExpire) {
+        this.resultCacheExpire = resultCacheExpire;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setKeyCacheSize(int keyCacheSize) {
+        this.keyCacheSize = keyCacheSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setKeyCacheExpire(long keyCacheExpire) {
+        this.keyCacheExpire = keyCacheExpire;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setUpdateBufferSize(int updateBufferSize) {
+        this.updateBufferSize = updateBufferSize;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setUpdateBufferInterval(long updateBufferInterval) {
+        this.updateBufferInterval = updateBufferInterval;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setInsertSinkCapacity(int insertSinkCapacity) {
+        this.insertSinkCapacity = insertSinkCapacity;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setInsertSinkMaxLatency(long insertSinkMaxLatency) {
+        this.insertSinkMaxLatency = insertSinkMaxLatency;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setMetricsEnabled(boolean metricsEnabled) {
+        this.metricsEnabled = metricsEnabled;
+        return this;
+    }
+
+    public SQLDatabaseDriverOptions setColumnarResults(boolean columnarResults) {
+        this.columnarResults = columnarResults;
+        return this;
+    }
+
+    @Override
+    public SQLDatabaseDriverOptions copy() {
+        SQLDatabaseDriverOptions options = new SQLDatabaseDriverOptions();
+        options.queryBatchSize = this.queryBatchSize;
+        options.statementCacheSize = this.statementCacheSize;
+        options.queryFetchSize = this.queryFetchSize;
+        options.executorQueueSize = this.executorQueueSize;
+        options.executorRejectionPolicy = this.executorRejectionPolicy;
+        options.executorType = this.executorType;
+        options.insertChunkSize = this.insertChunkSize;
+        options.maxPacketSize = this.maxPacketSize;
+        options.whereInChunkSize = this.whereInChunkSize;
+        options.resultCacheSize = this.resultCacheSize;
+        options.resultCacheExpire = this.resultCacheExpire;
+        options.keyCacheSize = this.keyCacheSize;
+        options.keyCacheExpire = this.keyCacheExpire;
+        options.updateBufferSize = this.updateBufferSize;
+        options.updateBufferInterval = this.updateBufferInterval;
+        options.insertSinkCapacity = this.insertSinkCapacity;
+        options.insertSinkMaxLatency = this.insertSinkMaxLatency;
+        options.metricsEnabled = this.metricsEnabled;
+        options.columnarResults = this.columnarResults;
+        return options;
+    }
+}
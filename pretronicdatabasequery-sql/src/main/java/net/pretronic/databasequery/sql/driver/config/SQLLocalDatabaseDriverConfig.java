@@ -32,10 +32,10 @@ public class SQLLocalDatabaseDriverConfig extends SQLDatabaseDriverConfig<SQLLoc
                                            String connectionSchema, boolean connectionReadOnly, int connectionIsolationLevel,
                                            int connectionNetworkTimeout, String dataSourceClassName, long dataSourceConnectionExpireAfterAccess,
                                            long dataSourceConnectionExpire, long dataSourceConnectionLoginTimeout, int dataSourceMaximumPoolSize,
-                                           int dataSourceMinimumIdleConnectionPoolSize, File location) {
+                                           int dataSourceMinimumIdleConnectionPoolSize, SQLDatabaseDriverOptions options, File location) {
         super(name, dialect, connectionString, connectionCatalog, connectionSchema, connectionReadOnly, connectionIsolationLevel,
                 connectionNetworkTimeout, dataSourceClassName, dataSourceConnectionExpireAfterAccess, dataSourceConnectionExpire,
-                dataSourceConnectionLoginTimeout, dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize);
+                dataSourceConnectionLoginTimeout, dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, options);
         this.location = location;
     }
 
@@ -50,7 +50,6 @@ public class SQLLocalDatabaseDriverConfig extends SQLDatabaseDriverConfig<SQLLoc
         return new SQLLocalDatabaseDriverConfig(this.name, this.dialect, this.connectionString, this.connectionCatalog
                 , this.connectionSchema, this.connectionReadOnly, this.connectionIsolationLevel, this.connectionNetworkTimeout
                 , this.dataSourceClassName, this.dataSourceConnectionExpireAfterAccess, this.dataSourceConnectionExpire
-                , this.dataSourceConnectionLoginTimeout, this.dataSourceMaximumPoolSize, this.dataSourceMinimumIdleConnectionPoolSize
-                , this.location);
+                , this.dataSourceConnectionLoginTimeout, this.dataSourceMaximumPoolSize, this.dataSourceMinimumIdleConnectionPoolSize, this.options.copy(), this.location);
     }
 }
@@ -35,11 +35,11 @@ public class SQLRemoteDatabaseDriverConfig extends SQLDatabaseDriverConfig<SQLRe
             , String connectionSchema, boolean connectionReadOnly, int connectionIsolationLevel
             , int connectionNetworkTimeout, String dataSourceClassName, long dataSourceConnectionExpireAfterAccess
             , long dataSourceConnectionExpire, long dataSourceConnectionLoginTimeout, int dataSourceMaximumPoolSize
-            , int dataSourceMinimumIdleConnectionPoolSize,  InetSocketAddress address, String username, String password) {
+            , int dataSourceMinimumIdleConnectionPoolSize, SQLDatabaseDriverOptions options, InetSocketAddress address, String username, String password) {
         super(name, dialect, connectionString, connectionCatalog, connectionSchema
                 , connectionReadOnly, connectionIsolationLevel, connectionNetworkTimeout, dataSourceClassName
                 , dataSourceConnectionExpireAfterAccess, dataSourceConnectionExpire, dataSourceConnectionLoginTimeout
-                , dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize);
+                , dataSourceMaximumPoolSize, dataSourceMinimumIdleConnectionPoolSize, options);
         this.address = address;
         this.username = username;
         this.password = password;
@@ -74,7 +74,6 @@ public class SQLRemoteDatabaseDriverConfig extends SQLDatabaseDriverConfig<SQLRe
         return new SQLRemoteDatabaseDriverConfig(this.name, this.dialect, this.connectionString, this.connectionCatalog
                 , this.connectionSchema, this.connectionReadOnly, this.connectionIsolationLevel, this.connectionNetworkTimeout
                 , this.dataSourceClassName, this.dataSourceConnectionExpireAfterAccess, this.dataSourceConnectionExpire
-                , this.dataSourceConnectionLoginTimeout, this.dataSourceMaximumPoolSize, this.dataSourceMinimumIdleConnectionPoolSize
-                , this.address, this.username, this.password);
+                , this.dataSourceConnectionLoginTimeout, this.dataSourceMaximumPoolSize, this.dataSourceMinimumIdleConnectionPoolSize, this.options.copy(), this.address, this.username, this.password);
     }
 }
@@ -25,6 +25,7 @@ import com.zaxxer.hikari.util.IsolationLevel;
 import net.pretronic.libraries.utility.Validate;
 import net.pretronic.libraries.utility.reflect.ReflectionUtil;
 import net.pretronic.databasequery.common.DatabaseDriverEnvironment;
+import net.pretronic.databasequery.sql.dialect.Dialect;
 import net.pretronic.databasequery.sql.driver.SQLDatabaseDriver;
 import net.pretronic.databasequery.sql.driver.config.SQLDatabaseDriverConfig;
 import net.pretronic.databasequery.sql.driver.config.SQLLocalDatabaseDriverConfig;
@@ -69,6 +70,14 @@ public class HikariSQLDataSourceFactory implements SQLDataSourceFactory {
         if(config.getDataSourceMinimumIdleConnectionPoolSize() != 0) hikariConfig.setMinimumIdle(config.getDataSourceMinimumIdleConnectionPoolSize());
 
         if(config.getConnectionIsolationLevel() != 0) hikariConfig.setTransactionIsolation(convertToHikariIsolationLevel(config.getConnectionIsolationLevel()));
+        if(driver.getDialect() == Dialect.MYSQL || driver.getDialect() == Dialect.MARIADB) {
+            int statementCacheSize = config.getOptions().getStatementCacheSize();
+            hikariConfig.addDataSourceProperty("cachePrepStmts", String.valueOf(statementCacheSize > 0));
+            if(statementCacheSize > 0) {
+                hikariConfig.addDataSourceProperty("prepStmtCacheSize", String.valueOf(statementCacheSize));
+                hikariConfig.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+            }
+        }
         return new HikariDataSource(hikariConfig);
     }
 
@@ -21,7 +21,15 @@ package net.pretronic.databasequery.sql.query;
 
 import net.pretronic.databasequery.api.query.result.QueryResult;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+
 public interface CommitOnExecute {
 
     QueryResult execute(boolean commit, Object... values);
+
+    /*
+     * Executes the query on the given connection, the connection is neither committed nor closed.
+     */
+    QueryResult execute(Connection connection, Object... values) throws SQLException;
 }
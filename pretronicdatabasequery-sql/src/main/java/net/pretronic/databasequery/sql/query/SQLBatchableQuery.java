@@ -0,0 +1,39 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 16:05
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.query;
+
+import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+/**
+ * A query without a result set, which can be added to a jdbc batch. Consecutive executions with the same
+ * compiled sql query are executed in one batch by a {@link SQLQueryGroup}.
+ */
+@Internal
+public interface SQLBatchableQuery extends CommitOnExecute {
+
+    SQLQueryTemplate getTemplate(Object[] values);
+
+    /*
+     * The collection, which is changed by this query.
+     */
+    SQLDatabaseCollection getCollection();
+}
@@ -19,12 +19,32 @@
 
 package net.pretronic.databasequery.sql.query;
 
+import net.pretronic.databasequery.api.exceptions.DatabaseQueryExecuteFailedException;
+import net.pretronic.databasequery.api.query.Query;
 import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
 import net.pretronic.databasequery.common.query.AbstractQueryGroup;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.sql.PreparedStatementConsumer;
 import net.pretronic.databasequery.sql.SQLDatabase;
+import net.pretronic.databasequery.sql.SQLUtil;
+import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.databasequery.sql.dialect.SQLInsertQueryTemplate;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 
 public class SQLQueryGroup extends AbstractQueryGroup {
 
+    public static final String STATEMENT = "<query group>";
+
     private final SQLDatabase database;
 
     public SQLQueryGroup(SQLDatabase database) {
@@ -33,6 +53,87 @@ public class SQLQueryGroup extends AbstractQueryGroup {
 
     @Override
     public QueryResult execute() {
-        return null;
+        if(isEmpty()) return new DefaultQueryResult();
+        try(Connection connection = this.database.getConnection(STATEMENT)) {
+            try {
+                QueryResult result = execute(connection, Query.EMPTY_OBJECT_ARRAY);
+                connection.commit();
+                for (SQLDatabaseCollection collection : getChangedCollections()) collection.invalidateCaches();
+                return result;
+            } catch (SQLException | RuntimeException exception) {
+                SQLUtil.rollback(connection, exception);
+                throw exception;
+            }
+        } catch (SQLException exception) {
+            throw new DatabaseQueryExecuteFailedException(String.format("%s - Error executing sql query group", this.database.getDriver().getName())
+                    , exception);
+        }
+    }
+
+    /*
+     * Executes all queries of this group on the given connection, the connection is neither committed nor closed.
+     * Consecutive queries which result in the same sql query are executed in one jdbc batch.
+     */
+    @Internal
+    public QueryResult execute(Connection connection, Object[] values) throws SQLException {
+        DefaultQueryResult result = new DefaultQueryResult();
+        List<Entry> entries = getEntries();
+        int index = 0;
+        while (index < entries.size()) {
+            Entry entry = entries.get(index++);
+            Query query = entry.getQuery();
+            Object[] entryValues = getValues(entry, values);
+            SQLQueryTemplate template = query instanceof SQLBatchableQuery ? ((SQLBatchableQuery) query).getTemplate(entryValues) : null;
+            if(template != null && isBatchable(template, entryValues)) {
+                List<PreparedStatementConsumer> consumers = new ArrayList<>();
+                consumers.add(SQLUtil.getSelectConsumer(this.database.getDriver(), template.bind(entryValues)));
+                while (index < entries.size() && entries.get(index).getQuery() instanceof SQLBatchableQuery) {
+                    Entry next = entries.get(index);
+                    Object[] nextValues = getValues(next, values);
+                    SQLQueryTemplate nextTemplate = ((SQLBatchableQuery) next.getQuery()).getTemplate(nextValues);
+                    if(!nextTemplate.getQuery().equals(template.getQuery()) || !isBatchable(nextTemplate, nextValues)) break;
+                    consumers.add(SQLUtil.getSelectConsumer(this.database.getDriver(), nextTemplate.bind(nextValues)));
+                    index++;
+                }
+                this.database.executeBatchQuery(connection, template.getQuery(), consumers, null, result);
+                ((SQLBatchableQuery) query).getCollection().invalidateCaches();
+            } else if(query instanceof CommitOnExecute) {
+                addEntries(result, ((CommitOnExecute) query).execute(connection, entryValues));
+                if(template != null) ((SQLBatchableQuery) query).getCollection().invalidateCaches();
+            } else {
+                addEntries(result, query.execute(entryValues));
+            }
+        }
+        return result;
+    }
+
+    /*
+     * The collections of all write queries, their cached results are invalidated again after the commit.
+     */
+    @Internal
+    public Collection<SQLDatabaseCollection> getChangedCollections() {
+        Set<SQLDatabaseCollection> collections = new HashSet<>();
+        for (Entry entry : getEntries()) {
+            if(entry.getQuery() instanceof SQLBatchableQuery) collections.add(((SQLBatchableQuery) entry.getQuery()).getCollection());
+        }
+        return collections;
+    }
+
+    /*
+     * Multi row inserts and large where in lists are split into chunks by the query itself, they can't be batched.
+     */
+    private boolean isBatchable(SQLQueryTemplate template, Object[] values) {
+        if(template instanceof SQLInsertQueryTemplate && ((SQLInsertQueryTemplate) template).getRowCount() > 1) return false;
+        return !template.isSplittable(values, this.database.getDriver().getConfig().getOptions().getWhereInChunkSize());
+    }
+
+    private Object[] getValues(Entry entry, Object[] values) {
+        return entry.getValues().length == 0 ? values : entry.getValues();
+    }
+
+    private void addEntries(DefaultQueryResult result, QueryResult source) {
+        for (QueryResultEntry entry : source) {
+            result.addEntry(entry);
+        }
     }
 }
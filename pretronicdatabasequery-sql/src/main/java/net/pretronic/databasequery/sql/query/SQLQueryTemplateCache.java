@@ -0,0 +1,62 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 18.10.26, 14:40
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.query;
+
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
+import net.pretronic.libraries.utility.annonations.Internal;
+
+/**
+ * Holds the last compiled template of a query. The template is only reused as long as the query and its subqueries
+ * were not modified and the values are compatible with the template.
+ */
+@Internal
+public class SQLQueryTemplateCache {
+
+    private volatile Entry entry;
+
+    public SQLQueryTemplate get(int modificationCount, Object[] values) {
+        Entry entry = this.entry;
+        if(entry != null && entry.modificationCount == modificationCount && entry.template.isCurrent()
+                && entry.template.isCompatible(values)) {
+            return entry.template;
+        }
+        return null;
+    }
+
+    public <T extends SQLQueryTemplate> T put(int modificationCount, T template) {
+        this.entry = new Entry(modificationCount, template);
+        return template;
+    }
+
+    public void invalidate() {
+        this.entry = null;
+    }
+
+    private static class Entry {
+
+        private final int modificationCount;
+        private final SQLQueryTemplate template;
+
+        private Entry(int modificationCount, SQLQueryTemplate template) {
+            this.modificationCount = modificationCount;
+            this.template = template;
+        }
+    }
+}
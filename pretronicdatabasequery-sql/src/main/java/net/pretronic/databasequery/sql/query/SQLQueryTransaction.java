@@ -24,65 +24,123 @@ import net.pretronic.databasequery.api.query.Query;
 import net.pretronic.databasequery.api.query.QueryGroup;
 import net.pretronic.databasequery.api.query.QueryTransaction;
 import net.pretronic.databasequery.api.query.result.QueryResult;
-import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
-import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 import net.pretronic.databasequery.sql.SQLDatabase;
-import net.pretronic.databasequery.sql.query.type.SQLCreateQuery;
+import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
 
 import java.sql.Connection;
 import java.sql.SQLException;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.Consumer;
 
 public class SQLQueryTransaction implements QueryTransaction {
 
+    public static final String STATEMENT = "<query transaction>";
+
     private final SQLDatabase database;
-    private final Connection connection;
+    private final Set<SQLDatabaseCollection> changedCollections;
+    private Connection connection;
 
     public SQLQueryTransaction(SQLDatabase database) {
         this.database = database;
-        try {
-            connection = database.getDataSource().getConnection();
-        } catch (SQLException exception) {
-            throw new DatabaseQueryTransactionException("Can't create transaction", exception);
-        }
+        this.changedCollections = new HashSet<>();
     }
 
+    private Connection getConnection() {
+        if(this.connection == null) {
+            try {
+                this.connection = this.database.getConnection(STATEMENT);
+            } catch (SQLException exception) {
+                throw new DatabaseQueryTransactionException("Can't create transaction", exception);
+            }
+        }
+        return this.connection;
+    }
 
     @Override
     public void commit() {
+        if(this.connection == null) return;
         try {
             this.connection.commit();
-        } catch (SQLException exception) {
-            throw new DatabaseQueryTransactionException("Can't commit sql transaction.", exception);
+            //Results cached while the transaction was not committed are outdated
+            for (SQLDatabaseCollection collection : this.changedCollections) collection.invalidateCaches();
+        } catch (SQLException | RuntimeException exception) {
+            //A failed commit leaves the changes open, they are rolled back before the connection is released
+            try {
+                this.connection.rollback();
+            } catch (SQLException rollbackException) {
+                exception.addSuppressed(rollbackException);
+            }
+            DatabaseQueryTransactionException transactionException = new DatabaseQueryTransactionException("Can't commit sql transaction.", exception);
+            release(transactionException);
+            throw transactionException;
         }
+        release(null);
     }
 
     @Override
     public void rollback() {
+        if(this.connection == null) return;
         try {
             this.connection.rollback();
         } catch (SQLException exception) {
-            throw new DatabaseQueryTransactionException("Can't rollback sql transaction.", exception);
+            DatabaseQueryTransactionException transactionException = new DatabaseQueryTransactionException("Can't rollback sql transaction.", exception);
+            release(transactionException);
+            throw transactionException;
+        }
+        release(null);
+    }
+
+    @Override
+    public void close() {
+        rollback();
+    }
+
+    /*
+     * Closes the connection, if the transaction already failed the close exception is added as suppressed exception.
+     */
+    private void release(RuntimeException failure) {
+        Connection connection = this.connection;
+        this.connection = null;
+        this.changedCollections.clear();
+        try {
+            connection.close();
+        } catch (SQLException exception) {
+            if(failure != null) failure.addSuppressed(exception);
+            else throw new DatabaseQueryTransactionException("Can't close sql transaction.", exception);
         }
     }
 
     @Override
     public QueryResult execute(Query query, Object... values) {
-        if(query instanceof SQLCreateQuery) {
-            return new DefaultQueryResult().addEntry(new DefaultQueryResultEntry(this.database.getDriver()).addEntry("collection", ((SQLCreateQuery)query).create(false)));
-        } else if(query instanceof CommitOnExecute) {
-            return ((CommitOnExecute)query).execute(false, values);
+        if(query instanceof CommitOnExecute) {
+            if(query instanceof SQLBatchableQuery) this.changedCollections.add(((SQLBatchableQuery) query).getCollection());
+            try {
+                return ((CommitOnExecute)query).execute(getConnection(), values);
+            } catch (SQLException exception) {
+                throw new DatabaseQueryTransactionException("Can't execute sql transaction query.", exception);
+            }
         }
         throw new IllegalArgumentException("Can't execute sql transaction for query " + query.getClass());
     }
 
     @Override
     public QueryResult execute(QueryGroup queryGroup, Object... values) {
-        return null;
+        if(queryGroup instanceof SQLQueryGroup) {
+            this.changedCollections.addAll(((SQLQueryGroup) queryGroup).getChangedCollections());
+            try {
+                return ((SQLQueryGroup) queryGroup).execute(getConnection(), values);
+            } catch (SQLException exception) {
+                throw new DatabaseQueryTransactionException("Can't execute sql transaction query group.", exception);
+            }
+        }
+        throw new IllegalArgumentException("Can't execute sql transaction for query group " + queryGroup.getClass());
     }
 
     @Override
     public QueryResult execute(Consumer<QueryGroup> queryGroupConsumer, Object... values) {
-        return null;
+        QueryGroup queryGroup = new SQLQueryGroup(this.database);
+        queryGroupConsumer.accept(queryGroup);
+        return execute(queryGroup, values);
     }
 }
@@ -20,15 +20,22 @@
 package net.pretronic.databasequery.sql.query.type;
 
 import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.query.result.QueryResult;
 import net.pretronic.libraries.utility.annonations.Internal;
 import net.pretronic.libraries.utility.map.Pair;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 import net.pretronic.databasequery.common.query.type.AbstractCreateQuery;
+import net.pretronic.databasequery.sql.PreparedStatementConsumer;
 import net.pretronic.databasequery.sql.SQLDatabase;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.databasequery.sql.query.CommitOnExecute;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 
-public class SQLCreateQuery extends AbstractCreateQuery<SQLDatabase> {
+public class SQLCreateQuery extends AbstractCreateQuery<SQLDatabase> implements CommitOnExecute {
 
     public SQLCreateQuery(String name, SQLDatabase database) {
         super(name, database);
@@ -41,12 +48,38 @@ public class SQLCreateQuery extends AbstractCreateQuery<SQLDatabase> {
 
     @Internal
     public DatabaseCollection create(boolean commit) {
-        Pair<String, List<Object>> data = this.database.getDriver().getDialect().newCreateQuery(this.database, this.entries, this.name, this.engine, this.type, this.includingQuery, EMPTY_OBJECT_ARRAY);
-        this.database.executeUpdateQuery(data.getKey(), commit, preparedStatement -> {
-            for (int i = 1; i <= data.getValue().size(); i++) {
-                preparedStatement.setObject(i, data.getValue().get(i-1));
-            }
-        });
+        Pair<String, List<Object>> data = newCreateQuery();
+        this.database.executeUpdateQuery(data.getKey(), commit, newStatementConsumer(data.getValue()));
         return new SQLDatabaseCollection(this.name, this.database, this.type);
     }
+
+    @Internal
+    @Override
+    public QueryResult execute(boolean commit, Object... values) {
+        return newResult(create(commit));
+    }
+
+    @Internal
+    @Override
+    public QueryResult execute(Connection connection, Object... values) throws SQLException {
+        Pair<String, List<Object>> data = newCreateQuery();
+        this.database.executeUpdateQuery(connection, data.getKey(), newStatementConsumer(data.getValue()), null);
+        return newResult(new SQLDatabaseCollection(this.name, this.database, this.type));
+    }
+
+    private QueryResult newResult(DatabaseCollection collection) {
+        return new DefaultQueryResult().addEntry(new DefaultQueryResultEntry(this.database.getDriver()).addEntry("collection", collection));
+    }
+
+    private Pair<String, List<Object>> newCreateQuery() {
+        return this.database.getDriver().getDialect().newCreateQuery(this.database, this.entries, this.name, this.engine, this.type, this.includingQuery, EMPTY_OBJECT_ARRAY);
+    }
+
+    private PreparedStatementConsumer newStatementConsumer(List<Object> values) {
+        return preparedStatement -> {
+            for (int i = 1; i <= values.size(); i++) {
+                preparedStatement.setObject(i, values.get(i-1));
+            }
+        };
+    }
 }
@@ -21,19 +21,54 @@ package net.pretronic.databasequery.sql.query.type;
 
 import net.pretronic.databasequery.api.query.result.QueryResult;
 import net.pretronic.libraries.utility.annonations.Internal;
-import net.pretronic.libraries.utility.map.Pair;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
 import net.pretronic.databasequery.common.query.type.AbstractDeleteQuery;
 import net.pretronic.databasequery.sql.SQLUtil;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
-import net.pretronic.databasequery.sql.query.CommitOnExecute;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
+import net.pretronic.databasequery.sql.query.SQLBatchableQuery;
+import net.pretronic.databasequery.sql.query.SQLQueryTemplateCache;
+import net.pretronic.libraries.utility.map.Pair;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
-public class SQLDeleteQuery extends AbstractDeleteQuery<SQLDatabaseCollection> implements CommitOnExecute {
+public class SQLDeleteQuery extends AbstractDeleteQuery<SQLDatabaseCollection> implements SQLBatchableQuery {
+
+    private final SQLQueryTemplateCache templateCache;
 
     public SQLDeleteQuery(SQLDatabaseCollection collection) {
         super(collection);
+        this.templateCache = new SQLQueryTemplateCache();
+    }
+
+    @Internal
+    @Override
+    public SQLDatabaseCollection getCollection() {
+        return this.collection;
+    }
+
+    @Internal
+    @Override
+    public SQLQueryTemplate getTemplate(Object[] values) {
+        SQLQueryTemplate template = this.templateCache.get(this.modificationCount, values);
+        if(template == null) {
+            template = this.templateCache.put(this.modificationCount, this.collection.getDatabase().getDriver().getDialect()
+                    .newDeleteQuery(this.collection, this.entries, values));
+        }
+        return template;
+    }
+
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(Collections.emptyList(), this.entries, values);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.exists(Collections.emptyList(), this.entries, values);
     }
 
     @Override
@@ -44,9 +79,44 @@ public class SQLDeleteQuery extends AbstractDeleteQuery<SQLDatabaseCollection> i
     @Internal
     @Override
     public QueryResult execute(boolean commit, Object... values) {
-        Pair<String, List<Object>> data = this.collection.getDatabase().getDriver().getDialect()
-                .newDeleteQuery(this.collection, this.entries, values);
-        this.collection.getDatabase().executeUpdateQuery(data.getKey(), commit, SQLUtil.getSelectConsumer(collection, data));
+        SQLQueryTemplate template = getTemplate(values);
+        if(template.isSplittable(values, getWhereInChunkSize())) {
+            QueryResult result = this.collection.getDatabase().executeWithConnection(template.getQuery(), commit, connection -> execute(connection, values));
+            this.collection.invalidateCaches();
+            return result;
+        }
+        this.collection.getDatabase().executeUpdateQuery(template.getQuery(), commit, SQLUtil.getSelectConsumer(collection, template.bind(values)));
+        this.collection.invalidateCaches();
         return DefaultQueryResult.EMPTY;
     }
+
+    @Internal
+    @Override
+    public QueryResult execute(Connection connection, Object... values) throws SQLException {
+        SQLQueryTemplate template = getTemplate(values);
+        if(template.isSplittable(values, getWhereInChunkSize())) {
+            for (Pair<String, List<Object>> chunk : template.split(values, getWhereInChunkSize())) {
+                this.collection.getDatabase().executeUpdateQuery(connection, chunk.getKey(), SQLUtil.getSelectConsumer(collection, chunk.getValue()), null);
+            }
+            this.collection.invalidateCaches();
+            return DefaultQueryResult.EMPTY;
+        }
+        this.collection.getDatabase().executeUpdateQuery(connection, template.getQuery(), SQLUtil.getSelectConsumer(collection, template.bind(values)), null);
+        this.collection.invalidateCaches();
+        return DefaultQueryResult.EMPTY;
+    }
+
+    @Override
+    public QueryResult executeBatch(List<Object[]> values) {
+        if(values.isEmpty()) return new DefaultQueryResult();
+        SQLQueryTemplate template = getTemplate(values.get(0));
+        QueryResult result = this.collection.getDatabase().executeBatchQuery(template.getQuery(), true
+                , SQLUtil.getBatchConsumers(this.collection, template, values), null);
+        this.collection.invalidateCaches();
+        return result;
+    }
+
+    private int getWhereInChunkSize() {
+        return this.collection.getDatabase().getDriver().getConfig().getOptions().getWhereInChunkSize();
+    }
 }
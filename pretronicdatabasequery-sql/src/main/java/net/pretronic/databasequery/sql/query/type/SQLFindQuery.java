@@ -20,23 +20,59 @@
 package net.pretronic.databasequery.sql.query.type;
 
 import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.api.query.result.QueryResultEntry;
+import net.pretronic.databasequery.api.query.type.FindQuery;
 import net.pretronic.libraries.utility.annonations.Internal;
-import net.pretronic.libraries.utility.io.FileUtil;
-import net.pretronic.libraries.utility.map.Pair;
+import net.pretronic.databasequery.common.driver.QueryExecutor;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
-import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
+import net.pretronic.databasequery.common.query.result.QueryResultPublisher;
 import net.pretronic.databasequery.common.query.type.AbstractFindQuery;
+import net.pretronic.databasequery.sql.SQLResultCache;
+import net.pretronic.databasequery.sql.SQLResultReader;
 import net.pretronic.databasequery.sql.SQLUtil;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
+import net.pretronic.databasequery.sql.dialect.SQLQueryTemplate;
 import net.pretronic.databasequery.sql.query.CommitOnExecute;
+import net.pretronic.databasequery.sql.query.SQLQueryTemplateCache;
+import net.pretronic.libraries.utility.map.Pair;
+import org.reactivestreams.Publisher;
 
-import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class SQLFindQuery extends AbstractFindQuery<SQLDatabaseCollection> implements CommitOnExecute {
 
+    private static final int MAX_PUBLISH_FETCH_SIZE = 1000;
+
+    private final SQLQueryTemplateCache templateCache;
+
     public SQLFindQuery(SQLDatabaseCollection collection) {
         super(collection);
+        this.templateCache = new SQLQueryTemplateCache();
+    }
+
+    @Internal
+    public SQLQueryTemplate getTemplate(Object[] values) {
+        SQLQueryTemplate template = this.templateCache.get(this.modificationCount, values);
+        if(template == null) {
+            template = this.templateCache.put(this.modificationCount, this.collection.getDatabase().getDriver().getDialect()
+                    .newFindQuery(this.collection, this.getEntries, this.entries, values));
+        }
+        return template;
+    }
+
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(this.getEntries, this.entries, values);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.exists(this.getEntries, this.entries, values);
     }
 
     @Override
@@ -47,31 +83,91 @@ public class SQLFindQuery extends AbstractFindQuery<SQLDatabaseCollection> imple
     @Internal
     @Override
     public QueryResult execute(boolean commit, Object... values) {
-        Pair<String, List<Object>> data = this.collection.getDatabase().getDriver().getDialect()
-                .newFindQuery(this.collection, this.getEntries, this.entries, values);
-        return this.collection.getDatabase().executeResultQuery(data.getKey(), commit, SQLUtil.getSelectConsumer(collection, data),
-                resultSet -> {
-                    DefaultQueryResult result = new DefaultQueryResult();
-                    while (resultSet.next()) {
-                        DefaultQueryResultEntry resultEntry = new DefaultQueryResultEntry(this.collection.getDatabase().getDriver());
-                        if(!this.getEntries.isEmpty()) {
-                            for (GetEntry entry : this.getEntries) {
-                                String getter = entry.getAggregation() == null ? entry.getField() : entry.getAggregation() + "(`" + entry.getField() + "`)";
-                                Object value = resultSet.getObject(getter);
-                                resultEntry.addEntry(getter, value);
-                            }
-                        } else {
-                            for (int i = 1; i <= resultSet.getMetaData().getColumnCount(); i++) {
-                                Object value = resultSet.getObject(i);
-                                if(value instanceof Clob) {
-                                    value = FileUtil.readContent(((Clob) value).getAsciiStream());
-                                }
-                                resultEntry.addEntry(resultSet.getMetaData().getColumnName(i), value);
-                            }
-                        }
-                        result.addEntry(resultEntry);
-                    }
-                    return result;
-                });
+        SQLQueryTemplate template = getTemplate(values);
+        if(template.isSplittable(values, getWhereInChunkSize())) {
+            return this.collection.getDatabase().executeWithConnection(template.getQuery(), commit, connection -> execute(connection, values));
+        }
+        List<Object> preparedValues = template.bind(values);
+        SQLResultCache resultCache = this.collection.getDatabase().getDriver().getResultCache();
+        if(!resultCache.isEnabled() || !isCacheable(this.entries)) {
+            return this.collection.getDatabase().executeResultQuery(template.getQuery(), commit, SQLUtil.getSelectConsumer(collection, preparedValues),
+                    this::readResult);
+        }
+        QueryResult result = resultCache.get(this.collection, template.getQuery(), preparedValues);
+        if(result == null) {
+            long version = resultCache.getVersion(this.collection);
+            result = this.collection.getDatabase().executeResultQuery(template.getQuery(), commit, SQLUtil.getSelectConsumer(collection, preparedValues),
+                    this::readResult);
+            result = resultCache.put(this.collection, version, template.getQuery(), preparedValues, result);
+        }
+        return result;
+    }
+
+    @Internal
+    @Override
+    public QueryResult execute(Connection connection, Object... values) throws SQLException {
+        SQLQueryTemplate template = getTemplate(values);
+        if(template.isSplittable(values, getWhereInChunkSize())) {
+            DefaultQueryResult result = new DefaultQueryResult();
+            for (Pair<String, List<Object>> chunk : template.split(values, getWhereInChunkSize())) {
+                QueryResult chunkResult = this.collection.getDatabase().executeResultQuery(connection, chunk.getKey(),
+                        SQLUtil.getSelectConsumer(collection, chunk.getValue()), this::readResult);
+                for (QueryResultEntry entry : chunkResult) result.addEntry(entry);
+            }
+            return result;
+        }
+        return this.collection.getDatabase().executeResultQuery(connection, template.getQuery(), SQLUtil.getSelectConsumer(collection, template.bind(values)),
+                this::readResult);
+    }
+
+    @Override
+    public Stream<QueryResultEntry> stream(Object... values) {
+        SQLQueryTemplate template = getTemplate(values);
+        return this.collection.getDatabase().executeStreamQuery(template.getQuery(), SQLUtil.getSelectConsumer(collection, template.bind(values)),
+                newResultReader());
+    }
+
+    @Override
+    public Publisher<QueryResultEntry> publish(Object... values) {
+        return new QueryResultPublisher(QueryExecutor.of(this.collection.getDatabase().getDriver()), demand -> {
+            SQLQueryTemplate template = getTemplate(values);
+            //The rows are fetched from the open result set in chunks of the first demand
+            return this.collection.getDatabase().executeStreamQuery(template.getQuery(), SQLUtil.getSelectConsumer(collection, template.bind(values)),
+                    newResultReader(), QueryResultPublisher.getFetchSize(demand, MAX_PUBLISH_FETCH_SIZE));
+        });
+    }
+
+    /*
+     * Results, which depend on other collections, can't be invalidated by the write queries of this collection.
+     */
+    private static boolean isCacheable(List<Entry> entries) {
+        for (Entry entry : entries) {
+            if(entry instanceof JoinEntry || entry instanceof UnionEntry) return false;
+            if(entry instanceof ConditionEntry && ((ConditionEntry) entry).getValue1() instanceof FindQuery) return false;
+            if(entry instanceof OperationEntry && !isCacheable(((OperationEntry) entry).getEntries())) return false;
+        }
+        return true;
+    }
+
+    private int getWhereInChunkSize() {
+        return this.collection.getDatabase().getDriver().getConfig().getOptions().getWhereInChunkSize();
+    }
+
+    private QueryResult readResult(ResultSet resultSet) throws SQLException {
+        SQLResultReader reader = newResultReader();
+        if(this.collection.getDatabase().getDriver().getConfig().getOptions().isColumnarResults()) return reader.readResult(resultSet);
+        DefaultQueryResult result = new DefaultQueryResult();
+        while (resultSet.next()) {
+            result.addEntry(reader.apply(resultSet));
+        }
+        return result;
+    }
+
+    private SQLResultReader newResultReader() {
+        List<String> columns = new ArrayList<>(this.getEntries.size());
+        for (GetEntry entry : this.getEntries) {
+            columns.add(entry.getAggregation() == null ? entry.getField() : entry.getAggregation() + "(`" + entry.getField() + "`)");
+        }
+        return new SQLResultReader(this.collection.getDatabase().getDriver(), columns);
     }
 }
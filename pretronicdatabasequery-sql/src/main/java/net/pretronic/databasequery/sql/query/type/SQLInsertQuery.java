@@ -21,20 +21,42 @@ package net.pretronic.databasequery.sql.query.type;
 
 import net.pretronic.databasequery.api.query.result.QueryResult;
 import net.pretronic.libraries.utility.annonations.Internal;
-import net.pretronic.libraries.utility.map.Pair;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
-import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
 import net.pretronic.databasequery.common.query.type.AbstractInsertQuery;
 import net.pretronic.databasequery.sql.SQLUtil;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
-import net.pretronic.databasequery.sql.query.CommitOnExecute;
+import net.pretronic.databasequery.sql.dialect.SQLInsertQueryTemplate;
+import net.pretronic.databasequery.sql.query.SQLBatchableQuery;
+import net.pretronic.databasequery.sql.query.SQLQueryTemplateCache;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.List;
 
-public class SQLInsertQuery extends AbstractInsertQuery<SQLDatabaseCollection> implements CommitOnExecute {
+public class SQLInsertQuery extends AbstractInsertQuery<SQLDatabaseCollection> implements SQLBatchableQuery {
+
+    private final SQLQueryTemplateCache templateCache;
 
     public SQLInsertQuery(SQLDatabaseCollection collection) {
         super(collection);
+        this.templateCache = new SQLQueryTemplateCache();
+    }
+
+    @Internal
+    @Override
+    public SQLDatabaseCollection getCollection() {
+        return this.collection;
+    }
+
+    @Internal
+    @Override
+    public SQLInsertQueryTemplate getTemplate(Object[] values) {
+        SQLInsertQueryTemplate template = (SQLInsertQueryTemplate) this.templateCache.get(this.modificationCount, values);
+        if(template == null) {
+            template = this.templateCache.put(this.modificationCount, this.collection.getDatabase().getDriver().getDialect()
+                    .newInsertQuery(this.collection, this.entries, this.queries, values));
+        }
+        return template;
     }
 
     @Override
@@ -44,14 +66,18 @@ public class SQLInsertQuery extends AbstractInsertQuery<SQLDatabaseCollection> i
 
     @Internal
     public QueryResult executeAndGetGeneratedKeys(boolean commit, String[] keyColumns, Object... values) {
-        Pair<String, List<Object>> data = this.collection.getDatabase().getDriver().getDialect()
-                .newInsertQuery(this.collection, this.entries, values);
-        Number[] keys = this.collection.getDatabase().executeUpdateQuery(data.getKey(), commit, SQLUtil.getSelectConsumer(collection, data),
-                keyColumns);
-        DefaultQueryResult result = new DefaultQueryResult();
-        for (int i = 0; i < keyColumns.length; i++) {
-            result.addEntry(new DefaultQueryResultEntry(this.collection.getDatabase().getDriver()).addEntry(keyColumns[i], keys[i]));
-        }
+        QueryResult result = this.collection.getDatabase().executeInsertQuery(getTemplate(values), commit, values, keyColumns);
+        this.collection.invalidateCaches();
+        return result;
+    }
+
+    @Override
+    public QueryResult executeBatchAndGetGeneratedKeys(String[] keyColumns, List<Object[]> values) {
+        if(values.isEmpty()) return new DefaultQueryResult();
+        SQLInsertQueryTemplate template = getTemplate(values.get(0));
+        QueryResult result = this.collection.getDatabase().executeBatchQuery(template.getQuery(), true
+                , SQLUtil.getBatchConsumers(this.collection, template, values), keyColumns);
+        this.collection.invalidateCaches();
         return result;
     }
 
@@ -59,4 +85,12 @@ public class SQLInsertQuery extends AbstractInsertQuery<SQLDatabaseCollection> i
     public QueryResult execute(boolean commit, Object... values) {
         return executeAndGetGeneratedKeys(commit, EMPTY_STRING_ARRAY, values);
     }
+
+    @Internal
+    @Override
+    public QueryResult execute(Connection connection, Object... values) throws SQLException {
+        this.collection.getDatabase().executeInsertQuery(connection, getTemplate(values), values, null, new DefaultQueryResult());
+        this.collection.invalidateCaches();
+        return DefaultQueryResult.EMPTY;
+    }
 }
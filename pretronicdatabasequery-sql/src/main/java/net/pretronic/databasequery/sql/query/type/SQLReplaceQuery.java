@@ -21,18 +21,53 @@ package net.pretronic.databasequery.sql.query.type;
 
 import net.pretronic.databasequery.api.query.result.QueryResult;
 import net.pretronic.libraries.utility.annonations.Internal;
-import net.pretronic.libraries.utility.map.Pair;
 import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
 import net.pretronic.databasequery.common.query.type.AbstractReplaceQuery;
+import net.pretronic.databasequery.sql.SQLUtil;
 import net.pretronic.databasequery.sql.collection.SQLDatabaseCollection;
-import net.pretronic.databasequery.sql.query.CommitOnExecute;
+import net.pretronic.databasequery.sql.dialect.SQLInsertQueryTemplate;
+import net.pretronic.databasequery.sql.query.SQLBatchableQuery;
+import net.pretronic.databasequery.sql.query.SQLQueryTemplateCache;
 
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Collections;
 import java.util.List;
 
-public class SQLReplaceQuery extends AbstractReplaceQuery<SQLDatabaseCollection> implements CommitOnExecute {
+public class SQLReplaceQuery extends AbstractReplaceQuery<SQLDatabaseCollection> implements SQLBatchableQuery {
+
+    private final SQLQueryTemplateCache templateCache;
 
     public SQLReplaceQuery(SQLDatabaseCollection collection) {
         super(collection);
+        this.templateCache = new SQLQueryTemplateCache();
+    }
+
+    @Internal
+    @Override
+    public SQLDatabaseCollection getCollection() {
+        return this.collection;
+    }
+
+    @Internal
+    @Override
+    public SQLInsertQueryTemplate getTemplate(Object[] values) {
+        SQLInsertQueryTemplate template = (SQLInsertQueryTemplate) this.templateCache.get(this.modificationCount, values);
+        if(template == null) {
+            template = this.templateCache.put(this.modificationCount, this.collection.getDatabase().getDriver().getDialect()
+                    .newReplaceQuery(this.collection, this.entries, values));
+        }
+        return template;
+    }
+
+    @Override
+    public long count(Object... values) {
+        return this.collection.count(Collections.emptyList(), this.entries, values);
+    }
+
+    @Override
+    public boolean exists(Object... values) {
+        return this.collection.exists(Collections.emptyList(), this.entries, values);
     }
 
     @Override
@@ -43,13 +78,26 @@ public class SQLReplaceQuery extends AbstractReplaceQuery<SQLDatabaseCollection>
     @Internal
     @Override
     public QueryResult execute(boolean commit, Object... values) {
-        Pair<String, List<Object>> data = this.collection.getDatabase().getDriver().getDialect()
-                .newReplaceQuery(this.collection, this.entries, values);
-        this.collection.getDatabase().executeUpdateQuery(data.getKey(), commit, preparedStatement -> {
-            for (int i = 1; i <= data.getValue().size(); i++) {
-                preparedStatement.setObject(i, data.getValue().get(i-1));
-            }
-        });
+        this.collection.getDatabase().executeInsertQuery(getTemplate(values), commit, values, null);
+        this.collection.invalidateCaches();
         return DefaultQueryResult.EMPTY;
     }
+
+    @Internal
+    @Override
+    public QueryResult execute(Connection connection, Object... values) throws SQLException {
+        this.collection.getDatabase().executeInsertQuery(connection, getTemplate(values), values, null, new DefaultQueryResult());
+        this.collection.invalidateCaches();
+        return DefaultQueryResult.EMPTY;
+    }
+
+    @Override
+    public QueryResult executeBatch(List<Object[]> values) {
+        if(values.isEmpty()) return new DefaultQueryResult();
+        SQLInsertQueryTemplate template = getTemplate(values.get(0));
+        QueryResult result = this.collection.getDatabase().executeBatchQuery(template.getQuery(), true
+                , SQLUtil.getBatchConsumers(this.collection, template, values), null);
+        this.collection.invalidateCaches();
+        return result;
+    }
 }
@@ -0,0 +1,89 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 02:02
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql;
+
+import net.pretronic.databasequery.api.Database;
+import net.pretronic.databasequery.api.collection.DatabaseCollection;
+import net.pretronic.databasequery.api.query.result.QueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResult;
+import net.pretronic.databasequery.common.query.result.DefaultQueryResultEntry;
+import net.pretronic.databasequery.common.query.result.SchemaQueryResultEntry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SQLResultCacheTest {
+
+    private static final String QUERY = "SELECT * FROM `test` WHERE `name`=?";
+    private static final List<Object> VALUES = Collections.singletonList("name");
+
+    private final SQLResultCache cache = new SQLResultCache(10, 60000);
+    private final DatabaseCollection collection = createCollection();
+
+    @Test
+    void cachedEntriesAreReadOnlySnapshots() {
+        DefaultQueryResult result = new DefaultQueryResult();
+        result.addEntry(new DefaultQueryResultEntry(null).addEntry("id", 1).addEntry("name", "first"));
+        result.addEntry(new DefaultQueryResultEntry(null).addEntry("id", 2).addEntry("name", "second"));
+
+        QueryResult cached = this.cache.put(this.collection, 0, QUERY, VALUES, result);
+        ((DefaultQueryResultEntry) result.first()).addEntry("name", "changed");
+
+        QueryResult returned = this.cache.get(this.collection, QUERY, VALUES);
+        assertSame(cached, returned);
+        assertFalse(returned.first() instanceof DefaultQueryResultEntry);
+        assertEquals("first", returned.first().getObject("name"));
+        assertEquals(2, returned.get(1).getObject("ID"));
+        assertSame(((SchemaQueryResultEntry) returned.get(0)).getSchema(), ((SchemaQueryResultEntry) returned.get(1)).getSchema());
+        assertThrows(UnsupportedOperationException.class, () -> returned.asList().clear());
+    }
+
+    @Test
+    void invalidatedResultsAreNotReturned() {
+        this.cache.put(this.collection, 0, QUERY, VALUES, new DefaultQueryResult());
+        this.cache.invalidate(this.collection);
+
+        assertNull(this.cache.get(this.collection, QUERY, VALUES));
+    }
+
+    /*
+     * The collection only provides its name and the name of its database.
+     */
+    private DatabaseCollection createCollection() {
+        Database database = (Database) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{Database.class}, (proxy, method, args) -> {
+            if(method.getName().equals("getName")) return "database";
+            if(method.getName().equals("getDriver")) return null;
+            throw new UnsupportedOperationException(method.getName());
+        });
+        return (DatabaseCollection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class[]{DatabaseCollection.class}, (proxy, method, args) -> {
+            if(method.getName().equals("getName")) return "test";
+            if(method.getName().equals("getDatabase")) return database;
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
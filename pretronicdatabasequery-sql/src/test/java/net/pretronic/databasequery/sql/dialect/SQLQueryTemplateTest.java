@@ -0,0 +1,123 @@
+/*
+ * (C) Copyright 2020 The PretronicDatabaseQuery Project (Davide Wietlisbach & Philipp Elvin Friedhoff)
+ *
+ * @author Philipp Elvin Friedhoff
+ * @since 19.10.26, 02:10
+ *
+ * The PretronicDatabaseQuery Project is under the Apache License, version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at:
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS, WITHOUT
+ * WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the
+ * License for the specific language governing permissions and limitations
+ * under the License.
+ */
+
+package net.pretronic.databasequery.sql.dialect;
+
+import net.pretronic.libraries.utility.map.Pair;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SQLQueryTemplateTest {
+
+    private static final String PREFIX = "SELECT * FROM `test` WHERE `id` IN (";
+    private static final String SUFFIX = ") AND `name`=?";
+
+    @Test
+    void paddedSizeIsNextPowerOfTwo() {
+        assertEquals(0, SQLQueryTemplate.getPaddedSize(0));
+        assertEquals(1, SQLQueryTemplate.getPaddedSize(1));
+        assertEquals(2, SQLQueryTemplate.getPaddedSize(2));
+        assertEquals(4, SQLQueryTemplate.getPaddedSize(3));
+        assertEquals(4, SQLQueryTemplate.getPaddedSize(4));
+        assertEquals(8, SQLQueryTemplate.getPaddedSize(5));
+        assertEquals(32, SQLQueryTemplate.getPaddedSize(17));
+        assertEquals(1024, SQLQueryTemplate.getPaddedSize(1024));
+    }
+
+    @Test
+    void paddedListIsCompatibleWithSamePaddedSize() {
+        SQLQueryTemplate template = createTemplate(4);
+
+        assertTrue(template.isCompatible(new Object[]{Arrays.asList(1, 2, 3), "name"}));
+        assertTrue(template.isCompatible(new Object[]{Arrays.asList(1, 2, 3, 4), "name"}));
+        assertFalse(template.isCompatible(new Object[]{Arrays.asList(1, 2), "name"}));
+        assertFalse(template.isCompatible(new Object[]{Arrays.asList(1, 2, 3, 4, 5), "name"}));
+    }
+
+    @Test
+    void bindPadsListWithLastEntry() {
+        SQLQueryTemplate template = createTemplate(4);
+
+        assertEquals(PREFIX + "?,?,?,?" + SUFFIX, template.getQuery());
+        assertEquals(Arrays.asList(1, 2, 3, 3, "name"), template.bind(new Object[]{Arrays.asList(1, 2, 3), "name"}));
+    }
+
+    @Test
+    void splittableOnlyAboveChunkSize() {
+        SQLQueryTemplate template = createTemplate(8);
+        Object[] values = {Arrays.asList(1, 2, 3, 4, 5), "name"};
+
+        assertTrue(template.isSplittable(values, 3));
+        assertFalse(template.isSplittable(values, 5));
+        assertFalse(template.isSplittable(values, -1));
+        assertFalse(new SQLQueryTemplate("SELECT 1", Collections.emptyList()).isSplittable(values, 3));
+    }
+
+    @Test
+    void splitRemovesDuplicatesAndPadsChunks() {
+        SQLQueryTemplate template = createTemplate(8);
+        Object[] values = {Arrays.asList(1, 2, 2, 3, 4, 5, 1), "name"};
+
+        List<Pair<String, List<Object>>> chunks = template.split(values, 3);
+
+        assertEquals(2, chunks.size());
+        assertEquals(PREFIX + "?,?,?,?" + SUFFIX, chunks.get(0).getKey());
+        assertEquals(Arrays.asList(1, 2, 3, 3, "name"), chunks.get(0).getValue());
+        assertEquals(PREFIX + "?,?" + SUFFIX, chunks.get(1).getKey());
+        assertEquals(Arrays.asList(4, 5, "name"), chunks.get(1).getValue());
+    }
+
+    @Test
+    void splitWithExactChunks() {
+        SQLQueryTemplate template = createTemplate(8);
+        Object[] values = {Arrays.asList(1, 2, 3, 4), "name"};
+
+        List<Pair<String, List<Object>>> chunks = template.split(values, 2);
+
+        assertEquals(2, chunks.size());
+        assertEquals(Arrays.asList(1, 2, "name"), chunks.get(0).getValue());
+        assertEquals(Arrays.asList(3, 4, "name"), chunks.get(1).getValue());
+    }
+
+    @Test
+    void constantListIsCopied() {
+        List<Object> values = new ArrayList<>(Arrays.asList(1, 2, 3));
+        SQLQueryTemplate template = new SQLQueryTemplate(PREFIX, SUFFIX, 0, Arrays.asList(
+                SQLQueryTemplate.Binding.constantList(values, 4),
+                SQLQueryTemplate.Binding.single(0)));
+        values.add(4);
+        values.add(5);
+
+        assertEquals(Arrays.asList(1, 2, 3, 3, "name"), template.bind(new Object[]{"name"}));
+    }
+
+    private static SQLQueryTemplate createTemplate(int listSize) {
+        return new SQLQueryTemplate(PREFIX, SUFFIX, 0, Arrays.asList(
+                SQLQueryTemplate.Binding.list(0, listSize),
+                SQLQueryTemplate.Binding.single(1)));
+    }
+}